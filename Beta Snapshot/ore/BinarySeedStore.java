@@ -0,0 +1,251 @@
+package ore;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Append-only seed file, memory-mapped, with a seedId -> offset index kept in a side file.
+ *
+ * Data file: int magic, int version, long end, then records of
+ * int length, long timestamp, short idLength, id bytes, long seed, byte difficultyLength,
+ * difficulty name, short rows, short cols, byte generatorVersion, byte thresholdCount, one byte
+ * per threshold, then one byte per cell. Stored grids have generator version 0 and no thresholds;
+ * seed-only records have no cells.
+ * Index file: repeated short idLength, id bytes, long offset.
+ */
+public class BinarySeedStore implements SeedStore {
+    private static final int MAGIC = 0x4F524553;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 16;
+    private static final int END_OFFSET = 8;
+    private static final long MIN_CAPACITY = 4096;
+
+    private final RandomAccessFile dataFile;
+    private final FileChannel dataChannel;
+    private final FileChannel indexChannel;
+    private final Map<String, Long> offsets = new LinkedHashMap<>();
+    private MappedByteBuffer data;
+    private long end;
+
+    public BinarySeedStore(File dataPath, File indexPath) throws IOException {
+        dataFile = new RandomAccessFile(dataPath, "rw");
+        dataChannel = dataFile.getChannel();
+        indexChannel = new RandomAccessFile(indexPath, "rw").getChannel();
+        try {
+            if (dataChannel.size() == 0) {
+                map(MIN_CAPACITY);
+                data.putInt(0, MAGIC);
+                data.putInt(4, VERSION);
+                end = HEADER_SIZE;
+                data.putLong(END_OFFSET, end);
+                indexChannel.truncate(0);
+            } else {
+                map(dataChannel.size());
+                if (data.getInt(0) != MAGIC) {
+                    throw new IOException("Not a seed store: " + dataPath);
+                }
+                if (data.getInt(4) != VERSION) {
+                    throw new IOException("Unsupported seed store version " + data.getInt(4) + ": " + dataPath);
+                }
+                end = data.getLong(END_OFFSET);
+                loadIndex();
+            }
+        } catch (IOException | RuntimeException e) {
+            close();
+            throw e;
+        }
+    }
+
+    private void map(long capacity) throws IOException {
+        data = dataChannel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+    }
+
+    private void loadIndex() throws IOException {
+        long indexSize = indexChannel.size();
+        ByteBuffer index = ByteBuffer.allocate((int) indexSize);
+        indexChannel.read(index, 0);
+        index.flip();
+        long lastOffset = -1;
+        long validBytes = 0;
+        while (index.remaining() >= 2) {
+            int idLength = index.getShort();
+            if (index.remaining() < idLength + 8) {
+                break;
+            }
+            byte[] id = new byte[idLength];
+            index.get(id);
+            long offset = index.getLong();
+            if (offset < HEADER_SIZE || offset >= end) {
+                break;
+            }
+            offsets.put(new String(id, StandardCharsets.UTF_8), offset);
+            lastOffset = Math.max(lastOffset, offset);
+            validBytes = index.position();
+        }
+        indexChannel.truncate(validBytes);
+
+        // Records appended after the last index write (e.g. the game was killed) are re-indexed.
+        long offset = lastOffset < 0 ? HEADER_SIZE : lastOffset + 4 + data.getInt((int) lastOffset);
+        while (offset < end) {
+            long next = offset + 4 + data.getInt((int) offset);
+            if (next <= offset || next > end) {
+                break;
+            }
+            writeIndexEntry(readId(offset), offset);
+            offset = next;
+        }
+    }
+
+    private String readId(long offset) {
+        int position = (int) offset + 4 + 8;
+        byte[] id = new byte[data.getShort(position)];
+        data.get(position + 2, id);
+        return new String(id, StandardCharsets.UTF_8);
+    }
+
+    private void writeIndexEntry(String seedId, long offset) throws IOException {
+        byte[] id = seedId.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer entry = ByteBuffer.allocate(2 + id.length + 8);
+        entry.putShort((short) id.length).put(id).putLong(offset).flip();
+        indexChannel.write(entry, indexChannel.size());
+        offsets.put(seedId, offset);
+    }
+
+    @Override
+    public synchronized void append(SeedRecord seed) throws IOException {
+        byte[] id = seed.getSeedId().getBytes(StandardCharsets.UTF_8);
+        byte[] difficulty = seed.getDifficulty() == null
+            ? new byte[0]
+            : seed.getDifficulty().name().getBytes(StandardCharsets.UTF_8);
+        int[][] grid = seed.isGenerated() ? new int[0][] : seed.getOreData();
+        int[] thresholds = seed.isGenerated() ? seed.getThresholds() : new int[0];
+        int rows = seed.getRows();
+        int cols = seed.getCols();
+        if (rows > Short.MAX_VALUE || cols > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Ore grid too large to store: " + rows + "x" + cols);
+        }
+        for (int[] row : grid) {
+            if (row.length != cols) {
+                throw new IllegalArgumentException("Ore grid rows differ in length");
+            }
+        }
+        for (int threshold : thresholds) {
+            if (threshold < 0 || threshold > 100) {
+                throw new IllegalArgumentException("Threshold out of range: " + threshold);
+            }
+        }
+        int length = 8 + 2 + id.length + 8 + 1 + difficulty.length + 2 + 2 + 1 + 1 + thresholds.length
+            + grid.length * cols;
+        long offset = end;
+        ensureCapacity(offset + 4 + length);
+
+        int position = (int) offset;
+        data.putInt(position, length);
+        data.putLong(position + 4, seed.getTimestamp());
+        data.putShort(position + 12, (short) id.length);
+        data.put(position + 14, id);
+        position += 14 + id.length;
+        data.putLong(position, seed.getSeed());
+        data.put(position + 8, (byte) difficulty.length);
+        data.put(position + 9, difficulty);
+        position += 9 + difficulty.length;
+        data.putShort(position, (short) rows);
+        data.putShort(position + 2, (short) cols);
+        data.put(position + 4, (byte) seed.getGeneratorVersion());
+        data.put(position + 5, (byte) thresholds.length);
+        position += 6;
+        for (int threshold : thresholds) {
+            data.put(position++, (byte) threshold);
+        }
+        for (int[] row : grid) {
+            for (int col = 0; col < cols; col++) {
+                int tier = row[col];
+                if (tier < 0 || tier > 0xFF) {
+                    throw new IllegalArgumentException("Ore tier out of byte range: " + tier);
+                }
+                data.put(position++, (byte) tier);
+            }
+        }
+
+        end = offset + 4 + length;
+        data.putLong(END_OFFSET, end);
+        writeIndexEntry(seed.getSeedId(), offset);
+    }
+
+    private void ensureCapacity(long required) throws IOException {
+        if (required > Integer.MAX_VALUE) {
+            throw new IOException("Seed store is full");
+        }
+        long capacity = data.capacity();
+        if (required <= capacity) {
+            return;
+        }
+        while (capacity < required) {
+            capacity *= 2;
+        }
+        data.force();
+        map(Math.min(capacity, Integer.MAX_VALUE));
+    }
+
+    @Override
+    public synchronized SeedRecord find(String seedId) {
+        Long offset = offsets.get(seedId);
+        if (offset == null) {
+            return null;
+        }
+        int position = offset.intValue();
+        long timestamp = data.getLong(position + 4);
+        position += 14 + data.getShort(position + 12);
+        long seed = data.getLong(position);
+        byte[] difficulty = new byte[data.get(position + 8)];
+        data.get(position + 9, difficulty);
+        position += 9 + difficulty.length;
+        int rows = data.getShort(position);
+        int cols = data.getShort(position + 2);
+        int generatorVersion = data.get(position + 4) & 0xFF;
+        int[] thresholds = new int[data.get(position + 5) & 0xFF];
+        position += 6;
+        for (int i = 0; i < thresholds.length; i++) {
+            thresholds[i] = data.get(position++);
+        }
+        if (generatorVersion != 0) {
+            Difficulty level = Difficulty.valueOf(new String(difficulty, StandardCharsets.UTF_8));
+            return new SeedRecord(seedId, seed, level, thresholds, rows, cols, generatorVersion, timestamp);
+        }
+        int[][] grid = new int[rows][cols];
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                grid[row][col] = data.get(position++) & 0xFF;
+            }
+        }
+        return new SeedRecord(seedId, grid, timestamp);
+    }
+
+    @Override
+    public synchronized List<String> seedIds() {
+        return new ArrayList<>(offsets.keySet());
+    }
+
+    @Override
+    public synchronized int size() {
+        return offsets.size();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (data != null) {
+            data.force();
+        }
+        indexChannel.close();
+        dataFile.close();
+    }
+}
@@ -0,0 +1,158 @@
+package ore;
+
+import ore.metrics.PaintTimer;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+
+/**
+ * Paints the whole ore grid as a single component instead of one JButton per cell.
+ * Tiles are rendered once per color and blitted; only changed cells are repainted.
+ */
+public class BoardView extends JComponent implements Scrollable {
+    public interface CellListener {
+        void cellClicked(int row, int col);
+    }
+
+    private final int rows;
+    private final int cols;
+    private final int cellSize;
+    private final boolean[] revealed;
+    private OreBoard board;
+    private Color hiddenColor = TileSet.DEFAULT_HIDDEN_COLOR;
+    private Color[] tierColors = TileSet.DEFAULT_TIER_COLORS;
+    private TileSet tiles;
+    private CellListener cellListener;
+    private final PaintTimer paintTimer = new PaintTimer();
+
+    public BoardView(int rows, int cols, int cellSize) {
+        this.rows = rows;
+        this.cols = cols;
+        this.cellSize = cellSize;
+        this.revealed = new boolean[rows * cols];
+        setOpaque(true);
+        setPreferredSize(new Dimension(cols * cellSize, rows * cellSize));
+        addMouseListener(new MouseAdapter() {
+            @Override
+            public void mousePressed(MouseEvent e) {
+                if (cellListener == null || !SwingUtilities.isLeftMouseButton(e)) {
+                    return;
+                }
+                int row = e.getY() / cellSize;
+                int col = e.getX() / cellSize;
+                if (row < rows && col < cols) {
+                    paintTimer.click(() -> cellListener.cellClicked(row, col));
+                }
+            }
+        });
+    }
+
+    public void setCellListener(CellListener cellListener) {
+        this.cellListener = cellListener;
+    }
+
+    public void setGrid(int[][] grid) {
+        setBoard(OreBoard.fromGrid(grid));
+    }
+
+    public void setBoard(OreBoard board) {
+        this.board = board;
+        Arrays.fill(revealed, false);
+        repaint();
+    }
+
+    public void setPalette(Color hiddenColor, Color[] tierColors) {
+        this.hiddenColor = hiddenColor;
+        this.tierColors = tierColors;
+        tiles = null;
+        repaint();
+    }
+
+    public boolean isRevealed(int row, int col) {
+        return revealed[row * cols + col];
+    }
+
+    public void reveal(int row, int col) {
+        revealed[row * cols + col] = true;
+        repaintCell(row, col);
+    }
+
+    public void repaintCell(int row, int col) {
+        repaint(col * cellSize, row * cellSize, cellSize, cellSize);
+        paintTimer.repaintScheduled();
+    }
+
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        // Compatible images depend on the screen we are shown on.
+        tiles = null;
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        long start = System.nanoTime();
+        paintCells(g);
+        paintTimer.painted(start);
+    }
+
+    private void paintCells(Graphics g) {
+        Rectangle clip = g.getClipBounds();
+        if (clip == null) {
+            clip = new Rectangle(0, 0, getWidth(), getHeight());
+        }
+        g.setColor(getBackground() != null ? getBackground() : Color.BLACK);
+        g.fillRect(clip.x, clip.y, clip.width, clip.height);
+        if (board == null) {
+            return;
+        }
+        if (tiles == null) {
+            tiles = new TileSet(getGraphicsConfiguration(), cellSize, hiddenColor, tierColors);
+        }
+
+        int firstRow = Math.max(0, clip.y / cellSize);
+        int lastRow = Math.min(rows - 1, (clip.y + clip.height - 1) / cellSize);
+        int firstCol = Math.max(0, clip.x / cellSize);
+        int lastCol = Math.min(cols - 1, (clip.x + clip.width - 1) / cellSize);
+        byte[] cells = board.cells();
+        for (int row = firstRow; row <= lastRow; row++) {
+            int y = row * cellSize;
+            int base = row * cols;
+            for (int col = firstCol; col <= lastCol; col++) {
+                BufferedImage tile = revealed[base + col] ? tiles.tier(cells[base + col]) : tiles.hidden();
+                g.drawImage(tile, col * cellSize, y, null);
+            }
+        }
+    }
+
+    @Override
+    public Dimension getPreferredScrollableViewportSize() {
+        Dimension preferred = getPreferredSize();
+        return new Dimension(Math.min(preferred.width, 800), Math.min(preferred.height, 800));
+    }
+
+    @Override
+    public int getScrollableUnitIncrement(Rectangle visibleRect, int orientation, int direction) {
+        return cellSize;
+    }
+
+    @Override
+    public int getScrollableBlockIncrement(Rectangle visibleRect, int orientation, int direction) {
+        int extent = orientation == SwingConstants.VERTICAL ? visibleRect.height : visibleRect.width;
+        return Math.max(cellSize, extent - cellSize);
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportWidth() {
+        return false;
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportHeight() {
+        return false;
+    }
+}
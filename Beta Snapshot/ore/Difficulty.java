@@ -0,0 +1,23 @@
+package ore;
+
+public enum Difficulty {
+    EASY(50, 70, 82, 90, 95, 98, 99),
+    NORMAL(40, 60, 75, 86, 93, 97, 99),
+    HARD(30, 50, 70, 82, 90, 95, 98);
+
+    public final int[] thresholds;
+    private final byte[] tierTable;
+
+    Difficulty(int... thresholds) {
+        this.thresholds = thresholds;
+        this.tierTable = TierTable.build(thresholds);
+    }
+
+    public int tierForRoll(int roll) {
+        return tierTable[roll];
+    }
+
+    byte[] tierTable() {
+        return tierTable;
+    }
+}
@@ -0,0 +1,143 @@
+package ore;
+
+import com.google.gson.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The original seeds.json format: every seed in one pretty-printed array, rewritten on each append
+ * through the {@link PersistenceService}. Entries that cannot be read are kept as they are and
+ * written back unchanged; if the file cannot be parsed at all the store is read-only.
+ */
+public class JsonSeedStore implements SeedStore {
+    private final File file;
+    private final PersistenceService persistence;
+    private final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+    private final Map<String, SeedRecord> seeds = new LinkedHashMap<>();
+    private final List<JsonElement> unreadable = new ArrayList<>();
+    private IOException loadError;
+
+    public JsonSeedStore(File file, PersistenceService persistence) {
+        this.file = file;
+        this.persistence = persistence;
+        load();
+    }
+
+    private void load() {
+        try {
+            String json = persistence.read(file);
+            if (json != null) {
+                collect(JsonParser.parseString(json));
+            }
+        } catch (IOException e) {
+            loadError = e;
+        } catch (RuntimeException e) {
+            loadError = new IOException("Cannot parse " + file + ": " + e.getMessage(), e);
+        }
+    }
+
+    /** True if every entry in the file was read, so nothing is lost by copying this store elsewhere. */
+    boolean isComplete() {
+        return loadError == null && unreadable.isEmpty();
+    }
+
+    private void collect(JsonElement element) {
+        if (element == null || element.isJsonNull()) {
+            return;
+        }
+        if (element.isJsonArray()) {
+            for (JsonElement child : element.getAsJsonArray()) {
+                collect(child);
+            }
+        } else if (element.isJsonObject()) {
+            JsonObject object = element.getAsJsonObject();
+            if (object.has("seedId") && (object.has("oreData") || object.has("difficulty"))) {
+                try {
+                    SeedRecord record = toRecord(object);
+                    seeds.put(record.getSeedId(), record);
+                } catch (RuntimeException e) {
+                    unreadable.add(object);
+                }
+            } else {
+                for (Map.Entry<String, JsonElement> entry : object.entrySet()) {
+                    collect(entry.getValue());
+                }
+            }
+        }
+    }
+
+    private SeedRecord toRecord(JsonObject object) {
+        String seedId = object.get("seedId").getAsString();
+        long timestamp = object.has("timestamp") ? object.get("timestamp").getAsLong() : 0L;
+        JsonElement oreData = object.get("oreData");
+        if (oreData == null || oreData.isJsonNull()) {
+            long seed = required(object, "seed").getAsLong();
+            Difficulty difficulty = Difficulty.valueOf(required(object, "difficulty").getAsString());
+            int[] thresholds = gson.fromJson(required(object, "thresholds"), int[].class);
+            return new SeedRecord(seedId, seed, difficulty, thresholds,
+                required(object, "rows").getAsInt(), required(object, "cols").getAsInt(),
+                required(object, "generatorVersion").getAsInt(), timestamp);
+        }
+        return new SeedRecord(seedId, gson.fromJson(oreData, int[][].class), timestamp);
+    }
+
+    private static JsonElement required(JsonObject object, String name) {
+        JsonElement element = object.get(name);
+        if (element == null || element.isJsonNull()) {
+            throw new JsonParseException("Seed " + object.get("seedId") + " has no " + name);
+        }
+        return element;
+    }
+
+    @Override
+    public void append(SeedRecord seed) throws IOException {
+        if (loadError != null) {
+            throw new IOException("Not overwriting " + file + " because it could not be read", loadError);
+        }
+        seeds.put(seed.getSeedId(), seed);
+        JsonArray array = new JsonArray();
+        for (JsonElement element : unreadable) {
+            array.add(element);
+        }
+        for (SeedRecord record : seeds.values()) {
+            JsonObject object = new JsonObject();
+            object.addProperty("seedId", record.getSeedId());
+            if (record.isGenerated()) {
+                object.addProperty("seed", record.getSeed());
+                object.addProperty("difficulty", record.getDifficulty().name());
+                object.add("thresholds", gson.toJsonTree(record.getThresholds()));
+                object.addProperty("rows", record.getRows());
+                object.addProperty("cols", record.getCols());
+                object.addProperty("generatorVersion", record.getGeneratorVersion());
+            } else {
+                object.add("oreData", gson.toJsonTree(record.getOreData()));
+            }
+            object.addProperty("timestamp", record.getTimestamp());
+            array.add(object);
+        }
+        persistence.save(file, gson.toJson(array));
+    }
+
+    @Override
+    public SeedRecord find(String seedId) {
+        return seeds.get(seedId);
+    }
+
+    @Override
+    public List<String> seedIds() {
+        return new ArrayList<>(seeds.keySet());
+    }
+
+    @Override
+    public int size() {
+        return seeds.size();
+    }
+
+    @Override
+    public void close() {}
+}
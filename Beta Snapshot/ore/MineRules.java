@@ -0,0 +1,16 @@
+package ore;
+
+/** Points per ore tier; provisional. */
+public final class MineRules {
+    private static final int[] ORE_POINTS = {0, 1, 3, 5, 10, 15, 25, 50};
+
+    private MineRules() {}
+
+    public static int pointsFor(int tier) {
+        return ORE_POINTS[Math.min(tier, ORE_POINTS.length - 1)];
+    }
+
+    public static int tierCount() {
+        return ORE_POINTS.length;
+    }
+}
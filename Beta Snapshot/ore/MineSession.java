@@ -0,0 +1,83 @@
+package ore;
+
+import java.util.Arrays;
+
+/**
+ * One board's game state without any Swing: the ore board, which cells are mined and the score.
+ * The window and the headless simulator both drive it.
+ */
+public class MineSession {
+    private final int size;
+    private final OreBoard board;
+    private final boolean[] mined;
+    private long seed;
+    private Difficulty difficulty;
+    private int totalScore;
+    private int minedCells;
+
+    public MineSession(int size) {
+        this.size = size;
+        this.board = new OreBoard(size, size);
+        this.mined = new boolean[size * size];
+    }
+
+    public static MineSession generate(long seed, Difficulty difficulty, int size) {
+        MineSession session = new MineSession(size);
+        session.newBoard(seed, difficulty);
+        return session;
+    }
+
+    public void newBoard(long seed, Difficulty difficulty) {
+        this.seed = seed;
+        this.difficulty = difficulty;
+        OreGenerator.fillBoard(board, seed, difficulty, 0, size);
+        Arrays.fill(mined, false);
+        totalScore = 0;
+        minedCells = 0;
+    }
+
+    /** Mines one cell and returns the points it gave, or -1 if it was already mined. */
+    public int mine(int row, int col) {
+        int index = row * size + col;
+        if (mined[index]) {
+            return -1;
+        }
+        mined[index] = true;
+        minedCells++;
+        int points = MineRules.pointsFor(board.get(row, col));
+        totalScore += points;
+        return points;
+    }
+
+    public boolean isMined(int row, int col) {
+        return mined[row * size + col];
+    }
+
+    public boolean isCleared() {
+        return minedCells == size * size;
+    }
+
+    public OreBoard getBoard() {
+        return board;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public Difficulty getDifficulty() {
+        return difficulty;
+    }
+
+    public int getTotalScore() {
+        return totalScore;
+    }
+
+    public int getMinedCells() {
+        return minedCells;
+    }
+}
@@ -0,0 +1,109 @@
+package ore;
+
+import java.util.Arrays;
+
+/**
+ * Ore tiers in one flat row-major byte array: a quarter of the memory of an int[][] grid
+ * and no per-row arrays to chase. Tiers must fit in 0-127.
+ */
+public final class OreBoard {
+    public interface CellVisitor {
+        void visit(int row, int col, int tier);
+    }
+
+    private final int rows;
+    private final int cols;
+    private final byte[] cells;
+
+    public OreBoard(int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
+        this.cells = new byte[rows * cols];
+    }
+
+    public static OreBoard fromGrid(int[][] grid) {
+        int rows = grid.length;
+        OreBoard board = new OreBoard(rows, rows == 0 ? 0 : grid[0].length);
+        for (int row = 0; row < rows; row++) {
+            int offset = row * board.cols;
+            for (int col = 0; col < board.cols; col++) {
+                board.cells[offset + col] = (byte) grid[row][col];
+            }
+        }
+        return board;
+    }
+
+    public int rows() {
+        return rows;
+    }
+
+    public int cols() {
+        return cols;
+    }
+
+    public int get(int row, int col) {
+        return cells[row * cols + col];
+    }
+
+    public void set(int row, int col, int tier) {
+        cells[row * cols + col] = (byte) tier;
+    }
+
+    public int rowOffset(int row) {
+        return row * cols;
+    }
+
+    /** The backing array, row-major; index with {@link #rowOffset(int)} + col. */
+    public byte[] cells() {
+        return cells;
+    }
+
+    public void fill(int tier) {
+        Arrays.fill(cells, (byte) tier);
+    }
+
+    public void fillRows(int fromRow, int toRow, int tier) {
+        Arrays.fill(cells, fromRow * cols, toRow * cols, (byte) tier);
+    }
+
+    public void copyFrom(OreBoard other) {
+        if (other.rows != rows || other.cols != cols) {
+            throw new IllegalArgumentException("Board size mismatch: " + other.rows + "x" + other.cols
+                + " into " + rows + "x" + cols);
+        }
+        System.arraycopy(other.cells, 0, cells, 0, cells.length);
+    }
+
+    public OreBoard copy() {
+        OreBoard copy = new OreBoard(rows, cols);
+        copy.copyFrom(this);
+        return copy;
+    }
+
+    public void forEachCell(CellVisitor visitor) {
+        int index = 0;
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                visitor.visit(row, col, cells[index++]);
+            }
+        }
+    }
+
+    public void countTiers(long[] counts) {
+        for (byte tier : cells) {
+            counts[tier]++;
+        }
+    }
+
+    /** A copy in the int[][] oreGrid layout the game and SeedData use. */
+    public int[][] toGrid() {
+        int[][] grid = new int[rows][cols];
+        for (int row = 0; row < rows; row++) {
+            int offset = row * cols;
+            for (int col = 0; col < cols; col++) {
+                grid[row][col] = cells[offset + col];
+            }
+        }
+        return grid;
+    }
+}
@@ -0,0 +1,151 @@
+package ore;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Seeded ore placement. Every cell's roll is a pure function of (seed, row, col), so a board
+ * can be regenerated bit-for-bit from its seed and rows can be filled in any order or in parallel.
+ */
+public final class OreGenerator {
+    /** Bumped whenever a change here would give an existing seed a different board. */
+    public static final int VERSION = 1;
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final int PARALLEL_CELLS = 1 << 16;
+    private static final int ROWS_PER_TASK = 16;
+
+    private OreGenerator() {}
+
+    private interface RowFiller {
+        void fill(int fromRow, int toRow);
+    }
+
+    public static int[][] generate(long seed, Difficulty difficulty, int size) {
+        return generate(seed, difficulty.tierTable(), size, size);
+    }
+
+    public static int[][] generate(long seed, int[] thresholds, int rows, int cols) {
+        return generate(seed, TierTable.build(thresholds), rows, cols);
+    }
+
+    private static int[][] generate(long seed, byte[] tierTable, int rows, int cols) {
+        int[][] grid = new int[rows][cols];
+        fillInParallel(rows, cols, (from, to) -> fillRows(grid, seed, tierTable, from, to));
+        return grid;
+    }
+
+    public static OreBoard generateBoard(long seed, Difficulty difficulty, int rows, int cols) {
+        return generateBoard(seed, difficulty.tierTable(), rows, cols);
+    }
+
+    public static OreBoard generateBoard(long seed, int[] thresholds, int rows, int cols) {
+        return generateBoard(seed, TierTable.build(thresholds), rows, cols);
+    }
+
+    private static OreBoard generateBoard(long seed, byte[] tierTable, int rows, int cols) {
+        OreBoard board = new OreBoard(rows, cols);
+        fillInParallel(rows, cols, (from, to) -> fillBoard(board, seed, tierTable, 0, 0, from, to));
+        return board;
+    }
+
+    private static void fillInParallel(int rows, int cols, RowFiller filler) {
+        if ((long) rows * cols < PARALLEL_CELLS) {
+            filler.fill(0, rows);
+        } else {
+            ForkJoinPool.commonPool().invoke(new RowTask(filler, 0, rows));
+        }
+    }
+
+    public static void fillRows(int[][] grid, long seed, int[] thresholds, int fromRow, int toRow) {
+        fillRows(grid, seed, TierTable.build(thresholds), fromRow, toRow);
+    }
+
+    private static void fillRows(int[][] grid, long seed, byte[] tierTable, int fromRow, int toRow) {
+        long key = mix(seed);
+        for (int row = fromRow; row < toRow; row++) {
+            int[] oreRow = grid[row];
+            for (int col = 0; col < oreRow.length; col++) {
+                oreRow[col] = tierTable[rollKeyed(key, row, col)];
+            }
+        }
+    }
+
+    public static void fillBoard(OreBoard board, long seed, Difficulty difficulty, int fromRow, int toRow) {
+        fillBoard(board, seed, difficulty.tierTable(), 0, 0, fromRow, toRow);
+    }
+
+    /**
+     * Fills {@code board} with the window of the unbounded mine whose top-left cell is
+     * (originRow, originCol). A board generated at the origin is the same window at (0, 0).
+     */
+    public static void fillRegion(OreBoard board, long seed, Difficulty difficulty, long originRow, long originCol) {
+        fillRegion(board, seed, difficulty.tierTable(), originRow, originCol);
+    }
+
+    /** As above with a table from {@link TierTable#build}, for thresholds that were saved with a mine. */
+    public static void fillRegion(OreBoard board, long seed, byte[] tierTable, long originRow, long originCol) {
+        fillBoard(board, seed, tierTable, originRow, originCol, 0, board.rows());
+    }
+
+    private static void fillBoard(OreBoard board, long seed, byte[] tierTable,
+                                  long originRow, long originCol, int fromRow, int toRow) {
+        long key = mix(seed);
+        byte[] cells = board.cells();
+        int cols = board.cols();
+        for (int row = fromRow; row < toRow; row++) {
+            int index = board.rowOffset(row);
+            long worldRow = originRow + row;
+            for (int col = 0; col < cols; col++) {
+                cells[index + col] = tierTable[rollKeyed(key, worldRow, originCol + col)];
+            }
+        }
+    }
+
+    /** Roll in [0, 100) for one cell; {@code key} is {@code mix(seed)}. */
+    static int rollKeyed(long key, long row, long col) {
+        long counter = (row << 32) ^ (col & 0xFFFFFFFFL);
+        long bits = mix(key + counter * GOLDEN_GAMMA);
+        return (int) (((bits >>> 32) * 100) >>> 32);
+    }
+
+    public static int roll(long seed, int row, int col) {
+        return rollKeyed(mix(seed), row, col);
+    }
+
+    public static int tierFor(int roll, int[] thresholds) {
+        int tier = 0;
+        while (tier < thresholds.length && roll >= thresholds[tier]) {
+            tier++;
+        }
+        return tier;
+    }
+
+    static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static class RowTask extends RecursiveAction {
+        private final RowFiller filler;
+        private final int fromRow;
+        private final int toRow;
+
+        RowTask(RowFiller filler, int fromRow, int toRow) {
+            this.filler = filler;
+            this.fromRow = fromRow;
+            this.toRow = toRow;
+        }
+
+        @Override
+        protected void compute() {
+            if (toRow - fromRow <= ROWS_PER_TASK) {
+                filler.fill(fromRow, toRow);
+                return;
+            }
+            int middle = (fromRow + toRow) >>> 1;
+            invokeAll(new RowTask(filler, fromRow, middle), new RowTask(filler, middle, toRow));
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package ore;
+
+import ore.metrics.Metric;
+import ore.metrics.Metrics;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-behind saves for the small JSON files. Saves are queued on a background thread and
+ * repeated saves of the same file within the delay collapse into one write of the latest
+ * contents. Each write goes to a temp file that is synced and then renamed over the target.
+ */
+public class PersistenceService {
+    public interface ErrorHandler {
+        void saveFailed(File file, IOException error);
+    }
+
+    private static final long WRITE_DELAY_MILLIS = 200;
+
+    private final Map<File, String> pending = new ConcurrentHashMap<>();
+    private final List<Closeable> closeOnShutdown = new CopyOnWriteArrayList<>();
+    private final Object writeLock = new Object();
+    private final ScheduledThreadPoolExecutor executor;
+    private final Executor callbackExecutor;
+    private final ErrorHandler errorHandler;
+
+    /** {@code callbackExecutor} runs error callbacks, e.g. SwingUtilities::invokeLater. */
+    public PersistenceService(Executor callbackExecutor, ErrorHandler errorHandler) {
+        this.callbackExecutor = callbackExecutor;
+        this.errorHandler = errorHandler;
+        this.executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "oreminer-persistence");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void installShutdownHook() {
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "oreminer-persistence-flush"));
+    }
+
+    /**
+     * Closes {@code resource} in {@link #shutdown} after queued saves are written, so the window
+     * can exit without doing disk work on the EDT.
+     */
+    public void closeOnShutdown(Closeable resource) {
+        closeOnShutdown.add(resource);
+    }
+
+    public void save(File file, String contents) {
+        File key = file.getAbsoluteFile();
+        // After shutdown the save stays queued for the shutdown hook's flush.
+        if (pending.put(key, contents) == null && !executor.isShutdown()) {
+            executor.schedule(() -> write(key), WRITE_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /** Returns the file's contents, including a save that has not reached disk yet, or null if there is none. */
+    public String read(File file) throws IOException {
+        String queued = pending.get(file.getAbsoluteFile());
+        if (queued != null) {
+            return queued;
+        }
+        Path path = file.toPath();
+        if (!Files.exists(path)) {
+            return null;
+        }
+        long start = System.nanoTime();
+        String contents = Files.readString(path, StandardCharsets.UTF_8);
+        Metrics.record(Metric.IO_READ, System.nanoTime() - start);
+        return contents;
+    }
+
+    /** Writes everything still queued on the calling thread. */
+    public void flush() {
+        for (File file : pending.keySet()) {
+            write(file);
+        }
+    }
+
+    /**
+     * Writes queued saves and closes the resources passed to {@link #closeOnShutdown} on the
+     * calling thread. From then on save errors go to stderr: the callback executor is usually the
+     * EDT, which may be waiting for the exit.
+     */
+    public void shutdown() {
+        executor.shutdown();
+        flush();
+        closeAll();
+    }
+
+    private void closeAll() {
+        for (Closeable resource : closeOnShutdown) {
+            try {
+                resource.close();
+            } catch (IOException e) {
+                System.err.println("Error closing " + resource + ": " + e.getMessage());
+            }
+        }
+        closeOnShutdown.clear();
+    }
+
+    private void write(File file) {
+        synchronized (writeLock) {
+            String contents = pending.get(file);
+            if (contents == null) {
+                return;
+            }
+            long start = System.nanoTime();
+            try {
+                writeAtomically(file.toPath(), contents);
+                Metrics.record(Metric.IO_WRITE, System.nanoTime() - start);
+            } catch (IOException e) {
+                if (executor.isShutdown()) {
+                    System.err.println("Error saving " + file + ": " + e.getMessage());
+                } else {
+                    callbackExecutor.execute(() -> errorHandler.saveFailed(file, e));
+                }
+            }
+            // The entry stays queued until it is on disk so read() never sees stale contents.
+            if (!pending.remove(file, contents) && !executor.isShutdown()) {
+                executor.schedule(() -> write(file), WRITE_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    private static void writeAtomically(Path target, String contents) throws IOException {
+        writeAtomically(target, contents.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** Writes {@code contents} to a temp file, forces it to disk and renames it over {@code target}. */
+    public static void writeAtomically(Path target, byte[] contents) throws IOException {
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.wrap(contents);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
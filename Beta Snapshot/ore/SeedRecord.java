@@ -0,0 +1,106 @@
+package ore;
+
+import java.util.Objects;
+
+/**
+ * A saved board: either a full ore grid (older saves) or the seed that {@link OreGenerator}
+ * regenerates it from. Seed records keep the board size, the tier thresholds and the generator
+ * version they were made with, so rebalancing a {@link Difficulty} does not change saved boards.
+ */
+public class SeedRecord {
+    private final String seedId;
+    private final int[][] oreData;
+    private final long seed;
+    private final Difficulty difficulty;
+    private final int[] thresholds;
+    private final int rows;
+    private final int cols;
+    private final int generatorVersion;
+    private final long timestamp;
+
+    public SeedRecord(String seedId, int[][] oreData, long timestamp) {
+        this(seedId, oreData, 0L, null, null, oreData.length, oreData.length == 0 ? 0 : oreData[0].length, 0,
+            timestamp);
+    }
+
+    /** A seed for a board generated now, with the current thresholds and generator. */
+    public SeedRecord(String seedId, long seed, Difficulty difficulty, int rows, int cols, long timestamp) {
+        this(seedId, seed, difficulty, difficulty.thresholds.clone(), rows, cols, OreGenerator.VERSION, timestamp);
+    }
+
+    public SeedRecord(String seedId, long seed, Difficulty difficulty, int[] thresholds, int rows, int cols,
+                      int generatorVersion, long timestamp) {
+        this(seedId, null, seed, Objects.requireNonNull(difficulty, "difficulty"),
+            Objects.requireNonNull(thresholds, "thresholds"), rows, cols, generatorVersion, timestamp);
+        if (rows <= 0 || cols <= 0) {
+            throw new IllegalArgumentException("Seed " + seedId + " has no board size: " + rows + "x" + cols);
+        }
+        if (generatorVersion <= 0) {
+            throw new IllegalArgumentException("Seed " + seedId + " has no generator version");
+        }
+    }
+
+    private SeedRecord(String seedId, int[][] oreData, long seed, Difficulty difficulty, int[] thresholds,
+                       int rows, int cols, int generatorVersion, long timestamp) {
+        this.seedId = seedId;
+        this.oreData = oreData;
+        this.seed = seed;
+        this.difficulty = difficulty;
+        this.thresholds = thresholds;
+        this.rows = rows;
+        this.cols = cols;
+        this.generatorVersion = generatorVersion;
+        this.timestamp = timestamp;
+    }
+
+    public String getSeedId() {
+        return seedId;
+    }
+
+    public int[][] getOreData() {
+        return oreData;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public Difficulty getDifficulty() {
+        return difficulty;
+    }
+
+    public int[] getThresholds() {
+        return thresholds;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    public int getGeneratorVersion() {
+        return generatorVersion;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public boolean isGenerated() {
+        return oreData == null;
+    }
+
+    public int[][] grid() {
+        if (!isGenerated()) {
+            return oreData;
+        }
+        if (generatorVersion != OreGenerator.VERSION) {
+            throw new IllegalStateException("Seed " + seedId + " was made by generator version " + generatorVersion
+                + " but this is version " + OreGenerator.VERSION);
+        }
+        return OreGenerator.generate(seed, thresholds, rows, cols);
+    }
+}
@@ -0,0 +1,76 @@
+package ore;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public interface SeedStore extends Closeable {
+    void append(SeedRecord seed) throws IOException;
+
+    SeedRecord find(String seedId) throws IOException;
+
+    List<String> seedIds();
+
+    int size();
+
+    void close() throws IOException;
+
+    /**
+     * Opens the binary store next to {@code jsonFile} (seeds.json becomes seeds.dat + seeds.idx).
+     * The game's seed menu still saves to seeds.json, so every open copies in the JSON seeds whose
+     * ids the binary store does not have yet. If the binary store cannot be opened, or the JSON
+     * file has entries that cannot be read, the JSON file is used as before.
+     */
+    static SeedStore open(File jsonFile, PersistenceService persistence) {
+        File dir = jsonFile.getAbsoluteFile().getParentFile();
+        String base = jsonFile.getName().replaceFirst("\\.json$", "");
+        File dataFile = new File(dir, base + ".dat");
+        File indexFile = new File(dir, base + ".idx");
+        boolean created = !dataFile.exists();
+        BinarySeedStore store = null;
+        try {
+            store = new BinarySeedStore(dataFile, indexFile);
+            if (jsonFile.exists()) {
+                JsonSeedStore json = new JsonSeedStore(jsonFile, persistence);
+                if (!json.isComplete()) {
+                    throw new IOException("Some seeds in " + jsonFile + " could not be read");
+                }
+                importMissing(json, store);
+            }
+            return store;
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Error opening seed store: " + e.getMessage());
+            if (store != null) {
+                try {
+                    store.close();
+                } catch (IOException ignored) {
+                }
+            }
+            if (created) {
+                dataFile.delete();
+                indexFile.delete();
+            }
+            return new JsonSeedStore(jsonFile, persistence);
+        }
+    }
+
+    /** Appends the seeds of {@code source} whose ids {@code target} does not have. */
+    static int importMissing(SeedStore source, SeedStore target) throws IOException {
+        Set<String> known = new HashSet<>(target.seedIds());
+        int imported = 0;
+        for (String seedId : source.seedIds()) {
+            if (known.contains(seedId)) {
+                continue;
+            }
+            SeedRecord seed = source.find(seedId);
+            if (seed != null) {
+                target.append(seed);
+                imported++;
+            }
+        }
+        return imported;
+    }
+}
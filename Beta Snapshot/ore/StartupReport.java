@@ -0,0 +1,55 @@
+package ore;
+
+import javax.swing.*;
+import java.awt.*;
+import java.lang.management.ManagementFactory;
+import java.lang.management.RuntimeMXBean;
+
+/**
+ * Prints launch timings when started by the Menu launcher, which passes -Doreminer.launchedAt
+ * (epoch millis at the moment it spawned java). Call {@link #install} after pack(), before the
+ * frame is shown.
+ */
+public final class StartupReport {
+    private StartupReport() {}
+
+    public static void install(JFrame frame) {
+        String launchedAt = System.getProperty("oreminer.launchedAt");
+        if (launchedAt == null) {
+            return;
+        }
+        long launchMillis = Long.parseLong(launchedAt);
+        long constructedMillis = System.currentTimeMillis();
+        JLayeredPane layers = frame.getLayeredPane();
+        // A transparent marker above the content: it is painted last, so its first paint ends the
+        // window's first full frame whichever board renderer is in use.
+        JComponent marker = new JComponent() {
+            private boolean painted;
+
+            @Override
+            protected void paintComponent(Graphics g) {
+                if (painted) {
+                    return;
+                }
+                painted = true;
+                long firstFrameMillis = System.currentTimeMillis();
+                SwingUtilities.invokeLater(() -> {
+                    layers.remove(this);
+                    printTimings(launchMillis, constructedMillis, firstFrameMillis);
+                });
+            }
+        };
+        marker.setOpaque(false);
+        marker.setBounds(0, 0, layers.getWidth(), layers.getHeight());
+        layers.add(marker, JLayeredPane.DRAG_LAYER);
+    }
+
+    private static void printTimings(long launchMillis, long constructedMillis, long firstFrameMillis) {
+        RuntimeMXBean runtime = ManagementFactory.getRuntimeMXBean();
+        boolean cds = runtime.getInputArguments().stream().anyMatch(arg -> arg.startsWith("-XX:SharedArchiveFile"));
+        System.out.println("[startup] jvm start " + (runtime.getStartTime() - launchMillis) + " ms, "
+            + "window built " + (constructedMillis - launchMillis) + " ms, "
+            + "first frame " + (firstFrameMillis - launchMillis) + " ms"
+            + (cds ? " (AppCDS archive)" : ""));
+    }
+}
@@ -0,0 +1,16 @@
+package ore;
+
+/** Precomputed roll -> tier lookup for the 0-99 rolls, replacing the per-cell threshold scan. */
+public final class TierTable {
+    public static final int ROLLS = 100;
+
+    private TierTable() {}
+
+    public static byte[] build(int[] thresholds) {
+        byte[] table = new byte[ROLLS];
+        for (int roll = 0; roll < ROLLS; roll++) {
+            table[roll] = (byte) OreGenerator.tierFor(roll, thresholds);
+        }
+        return table;
+    }
+}
@@ -0,0 +1,56 @@
+package ore;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/** Pre-rendered cell tiles, one per ore tier plus the covered tile, at one cell size. */
+public class TileSet {
+    public static final Color DEFAULT_HIDDEN_COLOR = new Color(96, 80, 64);
+    public static final Color[] DEFAULT_TIER_COLORS = {
+        new Color(128, 128, 128),
+        new Color(54, 54, 54),
+        new Color(216, 175, 147),
+        new Color(252, 238, 75),
+        new Color(220, 20, 20),
+        new Color(38, 97, 156),
+        new Color(93, 236, 245),
+        new Color(23, 221, 98)
+    };
+
+    private final BufferedImage hiddenTile;
+    private final BufferedImage[] tierTiles;
+
+    /** {@code config} may be null before the component is displayable. */
+    public TileSet(GraphicsConfiguration config, int cellSize, Color hiddenColor, Color[] tierColors) {
+        hiddenTile = createTile(config, cellSize, hiddenColor);
+        tierTiles = new BufferedImage[tierColors.length];
+        for (int i = 0; i < tierColors.length; i++) {
+            tierTiles[i] = createTile(config, cellSize, tierColors[i]);
+        }
+    }
+
+    public BufferedImage hidden() {
+        return hiddenTile;
+    }
+
+    public BufferedImage tier(int tier) {
+        return tierTiles[Math.max(0, Math.min(tier, tierTiles.length - 1))];
+    }
+
+    private static BufferedImage createTile(GraphicsConfiguration config, int cellSize, Color color) {
+        BufferedImage tile = config != null
+            ? config.createCompatibleImage(cellSize, cellSize)
+            : new BufferedImage(cellSize, cellSize, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = tile.createGraphics();
+        g.setColor(color);
+        g.fillRect(0, 0, cellSize, cellSize);
+        g.setColor(color.brighter());
+        g.drawLine(0, 0, cellSize - 1, 0);
+        g.drawLine(0, 0, 0, cellSize - 1);
+        g.setColor(color.darker());
+        g.drawLine(cellSize - 1, 0, cellSize - 1, cellSize - 1);
+        g.drawLine(0, cellSize - 1, cellSize - 1, cellSize - 1);
+        g.dispose();
+        return tile;
+    }
+}
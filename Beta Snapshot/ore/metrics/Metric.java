@@ -0,0 +1,22 @@
+package ore.metrics;
+
+public enum Metric {
+    EDT_QUEUE("edt.queue"),
+    EDT_DISPATCH("edt.dispatch"),
+    FRAME_PAINT("frame.paint"),
+    BOARD_PAINT("board.paint"),
+    CLICK_TO_REPAINT("click.to.repaint"),
+    IO_READ("io.read"),
+    IO_WRITE("io.write");
+
+    public final String key;
+    final LatencyHistogram histogram = new LatencyHistogram();
+
+    Metric(String key) {
+        this.key = key;
+    }
+
+    public LatencyHistogram histogram() {
+        return histogram;
+    }
+}
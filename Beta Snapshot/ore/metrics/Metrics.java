@@ -0,0 +1,98 @@
+package ore.metrics;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/** Global switch, recording entry point and JSON/CSV export for the {@link Metric} histograms. */
+public final class Metrics {
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private static volatile boolean enabled = true;
+    private static volatile Map<String, String> labels = Map.of();
+
+    private Metrics() {}
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        Metrics.enabled = enabled;
+    }
+
+    /** Adds a name and value, e.g. the renderer in use, to every export so runs can be told apart. */
+    public static synchronized void setLabel(String name, String value) {
+        Map<String, String> copy = new LinkedHashMap<>(labels);
+        copy.put(name, value);
+        labels = copy;
+    }
+
+    public static void record(Metric metric, long nanos) {
+        if (enabled) {
+            metric.histogram.record(nanos);
+        }
+    }
+
+    public static void reset() {
+        for (Metric metric : Metric.values()) {
+            metric.histogram.reset();
+        }
+    }
+
+    public static void writeJson(Writer writer) throws IOException {
+        JsonObject root = new JsonObject();
+        root.addProperty("unit", "microseconds");
+        root.addProperty("timestamp", System.currentTimeMillis());
+        for (Map.Entry<String, String> label : labels.entrySet()) {
+            root.addProperty(label.getKey(), label.getValue());
+        }
+        for (Metric metric : Metric.values()) {
+            LatencyHistogram histogram = metric.histogram;
+            JsonObject object = new JsonObject();
+            object.addProperty("count", histogram.count());
+            object.addProperty("mean", histogram.meanNanos() / 1000.0);
+            for (double percentile : PERCENTILES) {
+                object.addProperty(percentileName(percentile), histogram.valueAtPercentile(percentile) / 1000.0);
+            }
+            object.addProperty("max", histogram.maxNanos() / 1000.0);
+            root.add(metric.key, object);
+        }
+        new GsonBuilder().setPrettyPrinting().create().toJson(root, writer);
+    }
+
+    public static void writeCsv(Writer writer) throws IOException {
+        StringBuilder prefix = new StringBuilder();
+        for (Map.Entry<String, String> label : labels.entrySet()) {
+            writer.write(label.getKey() + ",");
+            prefix.append(label.getValue()).append(',');
+        }
+        writer.write("metric,count,mean_us");
+        for (double percentile : PERCENTILES) {
+            writer.write("," + percentileName(percentile) + "_us");
+        }
+        writer.write(",max_us\n");
+        for (Metric metric : Metric.values()) {
+            LatencyHistogram histogram = metric.histogram;
+            StringBuilder line = new StringBuilder(prefix).append(metric.key).append(',').append(histogram.count());
+            line.append(String.format(Locale.ROOT, ",%.3f", histogram.meanNanos() / 1000.0));
+            for (double percentile : PERCENTILES) {
+                line.append(String.format(Locale.ROOT, ",%.3f", histogram.valueAtPercentile(percentile) / 1000.0));
+            }
+            line.append(String.format(Locale.ROOT, ",%.3f%n", histogram.maxNanos() / 1000.0));
+            writer.write(line.toString());
+        }
+    }
+
+    static String percentileName(double percentile) {
+        String name = percentile == Math.rint(percentile)
+            ? Integer.toString((int) percentile)
+            : Double.toString(percentile).replace('.', '_');
+        return "p" + name;
+    }
+}
@@ -0,0 +1,119 @@
+package ore.metrics;
+
+import ore.PersistenceService;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.InputEvent;
+import java.awt.event.KeyEvent;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Locale;
+
+/**
+ * Glass-pane readout of the {@link Metric} percentiles. F3 toggles it; Ctrl+Shift+E exports
+ * metrics-&lt;time&gt;.json and .csv to the working directory through the {@link PersistenceService},
+ * so the files are written off the EDT. It only repaints while visible.
+ */
+public class MetricsOverlay extends JComponent {
+    private static final int REFRESH_MILLIS = 250;
+
+    // Only the readout is refreshed; repainting the whole glass pane would repaint the board below
+    // it and skew the board.paint and edt.dispatch numbers being shown.
+    private final Rectangle panelBounds = new Rectangle();
+    private final Timer refreshTimer = new Timer(REFRESH_MILLIS, e -> repaint(panelBounds));
+    private final PersistenceService persistence;
+    private String status = "";
+
+    public static MetricsOverlay install(JFrame frame, PersistenceService persistence) {
+        MetricsOverlay overlay = new MetricsOverlay(persistence);
+        frame.setGlassPane(overlay);
+        JRootPane rootPane = frame.getRootPane();
+        InputMap inputMap = rootPane.getInputMap(JComponent.WHEN_IN_FOCUSED_WINDOW);
+        inputMap.put(KeyStroke.getKeyStroke(KeyEvent.VK_F3, 0), "toggleMetrics");
+        inputMap.put(KeyStroke.getKeyStroke(KeyEvent.VK_E, InputEvent.CTRL_DOWN_MASK | InputEvent.SHIFT_DOWN_MASK),
+            "exportMetrics");
+        rootPane.getActionMap().put("toggleMetrics", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                overlay.setVisible(!overlay.isVisible());
+            }
+        });
+        rootPane.getActionMap().put("exportMetrics", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                overlay.export(new File("."));
+            }
+        });
+        return overlay;
+    }
+
+    public MetricsOverlay(PersistenceService persistence) {
+        this.persistence = persistence;
+        setOpaque(false);
+        setVisible(false);
+    }
+
+    @Override
+    public void setVisible(boolean visible) {
+        super.setVisible(visible);
+        if (visible) {
+            refreshTimer.start();
+        } else {
+            refreshTimer.stop();
+        }
+    }
+
+    public void export(File dir) {
+        String name = "metrics-" + System.currentTimeMillis();
+        File json = new File(dir, name + ".json");
+        File csv = new File(dir, name + ".csv");
+        StringWriter jsonText = new StringWriter();
+        StringWriter csvText = new StringWriter();
+        try {
+            Metrics.writeJson(jsonText);
+            Metrics.writeCsv(csvText);
+        } catch (IOException e) {
+            status = "Export failed: " + e.getMessage();
+            repaint();
+            return;
+        }
+        persistence.save(json, jsonText.toString());
+        persistence.save(csv, csvText.toString());
+        status = "Exported " + json.getName() + " / " + csv.getName();
+        repaint();
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        Graphics2D g2 = (Graphics2D) g.create();
+        g2.setFont(new Font(Font.MONOSPACED, Font.PLAIN, 12));
+        FontMetrics fm = g2.getFontMetrics();
+        Metric[] metrics = Metric.values();
+        int lineHeight = fm.getHeight();
+        String footer = status.isEmpty() ? "F3 hide   Ctrl+Shift+E export" : status;
+        int width = Math.max(fm.stringWidth(String.format(Locale.ROOT, "%-17s %8s %9s %9s %9s", "", "", "", "", "")),
+            fm.stringWidth(footer)) + 16;
+        int height = lineHeight * (metrics.length + 2) + 12;
+        panelBounds.setBounds(8, 8, width, height);
+
+        g2.setColor(new Color(0, 0, 0, 180));
+        g2.fillRect(8, 8, width, height);
+        g2.setColor(Color.WHITE);
+        int y = 14 + fm.getAscent();
+        g2.drawString(String.format(Locale.ROOT, "%-17s %8s %9s %9s %9s", "metric (ms)", "count", "p50", "p99", "max"),
+            16, y);
+        for (Metric metric : metrics) {
+            y += lineHeight;
+            LatencyHistogram histogram = metric.histogram;
+            g2.drawString(String.format(Locale.ROOT, "%-17s %8d %9.3f %9.3f %9.3f", metric.key, histogram.count(),
+                histogram.valueAtPercentile(50) / 1e6, histogram.valueAtPercentile(99) / 1e6,
+                histogram.maxNanos() / 1e6), 16, y);
+        }
+        y += lineHeight;
+        g2.drawString(footer, 16, y);
+        g2.dispose();
+    }
+}
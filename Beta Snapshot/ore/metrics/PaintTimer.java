@@ -0,0 +1,36 @@
+package ore.metrics;
+
+/**
+ * Paint and click-to-repaint timing for a board component. A click is only timed when its handler
+ * actually schedules a repaint, so clicks that change nothing leave no sample behind.
+ */
+public final class PaintTimer {
+    private long clickNanos;
+    private long pendingClickNanos;
+
+    /** Runs a click handler; a repaint it schedules through {@link #repaintScheduled} is timed from now. */
+    public void click(Runnable handler) {
+        clickNanos = System.nanoTime();
+        try {
+            handler.run();
+        } finally {
+            clickNanos = 0;
+        }
+    }
+
+    public void repaintScheduled() {
+        if (clickNanos != 0 && pendingClickNanos == 0) {
+            pendingClickNanos = clickNanos;
+        }
+    }
+
+    /** Call at the end of paintComponent with the time painting started. */
+    public void painted(long startNanos) {
+        long end = System.nanoTime();
+        Metrics.record(Metric.BOARD_PAINT, end - startNanos);
+        if (pendingClickNanos != 0) {
+            Metrics.record(Metric.CLICK_TO_REPAINT, end - pendingClickNanos);
+            pendingClickNanos = 0;
+        }
+    }
+}
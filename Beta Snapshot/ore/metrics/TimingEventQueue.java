@@ -0,0 +1,47 @@
+package ore.metrics;
+
+import java.awt.AWTEvent;
+import java.awt.EventQueue;
+import java.awt.Toolkit;
+import java.awt.event.InputEvent;
+import java.awt.event.InvocationEvent;
+
+/**
+ * Times the EDT: edt.queue is how long input events and invokeLater/Timer events waited between
+ * being posted and being dispatched (millisecond resolution, from their timestamps), and
+ * edt.dispatch is how long each event's handlers ran.
+ */
+public class TimingEventQueue extends EventQueue {
+    public static void install() {
+        Toolkit.getDefaultToolkit().getSystemEventQueue().push(new TimingEventQueue());
+    }
+
+    @Override
+    protected void dispatchEvent(AWTEvent event) {
+        if (!Metrics.isEnabled()) {
+            super.dispatchEvent(event);
+            return;
+        }
+        long postedMillis = postedMillis(event);
+        if (postedMillis > 0) {
+            long waitedMillis = System.currentTimeMillis() - postedMillis;
+            Metrics.record(Metric.EDT_QUEUE, Math.max(0, waitedMillis) * 1_000_000L);
+        }
+        long start = System.nanoTime();
+        try {
+            super.dispatchEvent(event);
+        } finally {
+            Metrics.record(Metric.EDT_DISPATCH, System.nanoTime() - start);
+        }
+    }
+
+    private static long postedMillis(AWTEvent event) {
+        if (event instanceof InputEvent) {
+            return ((InputEvent) event).getWhen();
+        }
+        if (event instanceof InvocationEvent) {
+            return ((InvocationEvent) event).getWhen();
+        }
+        return 0;
+    }
+}
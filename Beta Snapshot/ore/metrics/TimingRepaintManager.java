@@ -0,0 +1,45 @@
+package ore.metrics;
+
+import javax.swing.JComponent;
+import javax.swing.RepaintManager;
+import java.awt.Window;
+
+/**
+ * Times each Swing paint pass as frame.paint, whichever components are dirty, so the button grid
+ * is measured like the painted boards. Passes that found nothing to repaint are not recorded.
+ */
+public class TimingRepaintManager extends RepaintManager {
+    private volatile boolean dirty;
+
+    public static void install() {
+        RepaintManager.setCurrentManager(new TimingRepaintManager());
+    }
+
+    @Override
+    public void addDirtyRegion(JComponent component, int x, int y, int w, int h) {
+        dirty = true;
+        super.addDirtyRegion(component, x, y, w, h);
+    }
+
+    @Override
+    public void addDirtyRegion(Window window, int x, int y, int w, int h) {
+        dirty = true;
+        super.addDirtyRegion(window, x, y, w, h);
+    }
+
+    @Override
+    public void paintDirtyRegions() {
+        boolean timed = dirty && Metrics.isEnabled();
+        dirty = false;
+        if (!timed) {
+            super.paintDirtyRegions();
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            super.paintDirtyRegions();
+        } finally {
+            Metrics.record(Metric.FRAME_PAINT, System.nanoTime() - start);
+        }
+    }
+}
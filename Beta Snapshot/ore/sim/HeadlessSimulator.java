@@ -0,0 +1,235 @@
+package ore.sim;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import ore.Difficulty;
+import ore.MineRules;
+import ore.MineSession;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Plays boards without a window to balance the Difficulty tables.
+ *
+ * Usage: HeadlessSimulator [--boards N] [--size S] [--seed SEED] [--clicks K]
+ *        [--difficulty EASY,NORMAL,HARD] [--threads T] [--json]
+ *
+ * Board i of every difficulty uses seed SEED + i, so difficulties are compared on the same seeds.
+ * With --clicks 0 (the default) every cell is mined; otherwise K random cells per board.
+ * Scores use {@link MineRules}, whose point table is provisional; tier shares do not depend on it.
+ */
+public class HeadlessSimulator {
+    private final int boards;
+    private final int size;
+    private final long baseSeed;
+    private final int clicks;
+
+    public HeadlessSimulator(int boards, int size, long baseSeed, int clicks) {
+        this.boards = boards;
+        this.size = size;
+        this.baseSeed = baseSeed;
+        this.clicks = clicks;
+    }
+
+    public static class Result {
+        public final Difficulty difficulty;
+        public final long[] tierCounts;
+        public final int[] scores;
+        public final long cells;
+        public final long elapsedNanos;
+
+        Result(Difficulty difficulty, long[] tierCounts, int[] scores, long cells, long elapsedNanos) {
+            this.difficulty = difficulty;
+            this.tierCounts = tierCounts;
+            this.scores = scores;
+            this.cells = cells;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public double cellsPerSecond() {
+            return cells * 1e9 / Math.max(1, elapsedNanos);
+        }
+
+        public double meanScore() {
+            long sum = 0;
+            for (int score : scores) {
+                sum += score;
+            }
+            return (double) sum / scores.length;
+        }
+
+        public double scoreStdDev() {
+            double mean = meanScore();
+            double squares = 0;
+            for (int score : scores) {
+                squares += (score - mean) * (score - mean);
+            }
+            return Math.sqrt(squares / scores.length);
+        }
+
+        /** Score percentiles in the order requested; sorts {@link #scores} in place. */
+        public int[] scorePercentiles(double... percentiles) {
+            Arrays.sort(scores);
+            int[] values = new int[percentiles.length];
+            for (int i = 0; i < percentiles.length; i++) {
+                int index = (int) Math.ceil(percentiles[i] / 100.0 * scores.length) - 1;
+                values[i] = scores[Math.max(0, Math.min(index, scores.length - 1))];
+            }
+            return values;
+        }
+    }
+
+    private class Worker {
+        private final MineSession session = new MineSession(size);
+        private final long[] tierCounts = new long[MineRules.tierCount()];
+        private final int[] order;
+
+        Worker() {
+            order = new int[size * size];
+        }
+
+        void play(Difficulty difficulty, int board, int[] scores) {
+            long seed = baseSeed + board;
+            session.newBoard(seed, difficulty);
+            session.getBoard().countTiers(tierCounts);
+            if (clicks <= 0 || clicks >= order.length) {
+                for (int row = 0; row < size; row++) {
+                    for (int col = 0; col < size; col++) {
+                        session.mine(row, col);
+                    }
+                }
+            } else {
+                // Start from the identity for every board so the picks depend only on the seed,
+                // not on which boards this worker played before.
+                for (int i = 0; i < order.length; i++) {
+                    order[i] = i;
+                }
+                SplittableRandom random = new SplittableRandom(seed);
+                for (int i = 0; i < clicks; i++) {
+                    int pick = i + random.nextInt(order.length - i);
+                    int cell = order[pick];
+                    order[pick] = order[i];
+                    order[i] = cell;
+                    session.mine(cell / size, cell % size);
+                }
+            }
+            scores[board] = session.getTotalScore();
+        }
+
+        Worker merge(Worker other) {
+            for (int i = 0; i < tierCounts.length; i++) {
+                tierCounts[i] += other.tierCounts[i];
+            }
+            return this;
+        }
+    }
+
+    public Result run(Difficulty difficulty, ForkJoinPool pool) throws InterruptedException, ExecutionException {
+        int[] scores = new int[boards];
+        long start = System.nanoTime();
+        Worker total = pool.submit(() -> IntStream.range(0, boards).parallel()
+            .collect(Worker::new, (worker, board) -> worker.play(difficulty, board, scores), Worker::merge))
+            .get();
+        long elapsed = System.nanoTime() - start;
+        return new Result(difficulty, total.tierCounts, scores, (long) boards * size * size, elapsed);
+    }
+
+    public static void main(String[] args) throws Exception {
+        System.setProperty("java.awt.headless", "true");
+        int boards = 100_000;
+        int size = 15;
+        long seed = 1L;
+        int clicks = 0;
+        int threads = Runtime.getRuntime().availableProcessors();
+        boolean json = false;
+        List<Difficulty> difficulties = new ArrayList<>(Arrays.asList(Difficulty.values()));
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--boards": boards = Integer.parseInt(args[++i]); break;
+                case "--size": size = Integer.parseInt(args[++i]); break;
+                case "--seed": seed = Long.parseLong(args[++i]); break;
+                case "--clicks": clicks = Integer.parseInt(args[++i]); break;
+                case "--threads": threads = Integer.parseInt(args[++i]); break;
+                case "--json": json = true; break;
+                case "--difficulty":
+                    difficulties.clear();
+                    for (String name : args[++i].split(",")) {
+                        difficulties.add(Difficulty.valueOf(name.trim().toUpperCase(Locale.ROOT)));
+                    }
+                    break;
+                default:
+                    System.err.println("Unknown option: " + args[i]);
+                    System.exit(2);
+            }
+        }
+
+        HeadlessSimulator simulator = new HeadlessSimulator(boards, size, seed, clicks);
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        JsonArray report = new JsonArray();
+        try {
+            for (Difficulty difficulty : difficulties) {
+                Result result = simulator.run(difficulty, pool);
+                if (json) {
+                    report.add(toJson(result, simulator));
+                } else {
+                    print(result, simulator);
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+        if (json) {
+            System.out.println(new GsonBuilder().setPrettyPrinting().create().toJson(report));
+        }
+    }
+
+    private static void print(Result result, HeadlessSimulator simulator) {
+        System.out.printf(Locale.ROOT, "%s: %d boards of %dx%d, %d cells in %.3f s (%.1fM cells/s)%n",
+            result.difficulty, simulator.boards, simulator.size, simulator.size, result.cells,
+            result.elapsedNanos / 1e9, result.cellsPerSecond() / 1e6);
+        for (int tier = 0; tier < result.tierCounts.length; tier++) {
+            System.out.printf(Locale.ROOT, "  tier %d  %6.2f%%  (%d points)%n",
+                tier, 100.0 * result.tierCounts[tier] / result.cells, MineRules.pointsFor(tier));
+        }
+        int[] percentiles = result.scorePercentiles(0, 50, 90, 99, 100);
+        System.out.printf(Locale.ROOT, "  score mean %.2f sd %.2f min %d p50 %d p90 %d p99 %d max %d%n",
+            result.meanScore(), result.scoreStdDev(),
+            percentiles[0], percentiles[1], percentiles[2], percentiles[3], percentiles[4]);
+    }
+
+    private static JsonObject toJson(Result result, HeadlessSimulator simulator) {
+        JsonObject object = new JsonObject();
+        object.addProperty("difficulty", result.difficulty.name());
+        object.addProperty("boards", simulator.boards);
+        object.addProperty("size", simulator.size);
+        object.addProperty("clicks", simulator.clicks);
+        object.addProperty("cells", result.cells);
+        object.addProperty("elapsedMillis", result.elapsedNanos / 1_000_000.0);
+        object.addProperty("cellsPerSecond", result.cellsPerSecond());
+        JsonArray tiers = new JsonArray();
+        for (long count : result.tierCounts) {
+            tiers.add((double) count / result.cells);
+        }
+        object.add("tierShare", tiers);
+        int[] percentiles = result.scorePercentiles(0, 50, 90, 99, 100);
+        JsonObject score = new JsonObject();
+        score.addProperty("mean", result.meanScore());
+        score.addProperty("stdDev", result.scoreStdDev());
+        score.addProperty("min", percentiles[0]);
+        score.addProperty("p50", percentiles[1]);
+        score.addProperty("p90", percentiles[2]);
+        score.addProperty("p99", percentiles[3]);
+        score.addProperty("max", percentiles[4]);
+        object.add("score", score);
+        return object;
+    }
+}
@@ -0,0 +1,53 @@
+package ore.world;
+
+import ore.OreBoard;
+
+/** One CHUNK_SIZE x CHUNK_SIZE square of the mine: generated tiers plus which cells are mined. */
+public class Chunk {
+    public static final int CHUNK_SIZE = 32;
+
+    final int chunkRow;
+    final int chunkCol;
+    final OreBoard tiers = new OreBoard(CHUNK_SIZE, CHUNK_SIZE);
+    final boolean[] mined = new boolean[CHUNK_SIZE * CHUNK_SIZE];
+    boolean dirty;
+    boolean loading;
+
+    Chunk(int chunkRow, int chunkCol) {
+        this.chunkRow = chunkRow;
+        this.chunkCol = chunkCol;
+    }
+
+    public int tierAt(int localRow, int localCol) {
+        return tiers.get(localRow, localCol);
+    }
+
+    public boolean isMined(int localRow, int localCol) {
+        return mined[localRow * CHUNK_SIZE + localCol];
+    }
+
+    /** True while this chunk's mined cells are still being read from disk; it cannot be mined yet. */
+    public boolean isLoading() {
+        return loading;
+    }
+
+    static long key(int chunkRow, int chunkCol) {
+        return ((long) chunkRow << 32) | (chunkCol & 0xFFFFFFFFL);
+    }
+
+    byte[] minedBits() {
+        byte[] bits = new byte[mined.length / 8];
+        for (int i = 0; i < mined.length; i++) {
+            if (mined[i]) {
+                bits[i >> 3] |= (byte) (1 << (i & 7));
+            }
+        }
+        return bits;
+    }
+
+    void loadMinedBits(byte[] bits) {
+        for (int i = 0; i < mined.length; i++) {
+            mined[i] = (bits[i >> 3] & (1 << (i & 7))) != 0;
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package ore.world;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import ore.Difficulty;
+import ore.MineRules;
+import ore.OreGenerator;
+import ore.PersistenceService;
+import ore.TierTable;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An unbounded mine split into chunks that are generated from the seed when first touched.
+ * At most {@code maxChunks} stay in memory (least recently used are evicted). Ore tiers are
+ * never written to disk because they regenerate from the seed and the thresholds saved in
+ * world.json when the mine was started; only the mined cells of evicted chunks are spilled,
+ * one small file per chunk. Spill files are written and read back
+ * on a background thread: a chunk coming back into memory shows its tiers at once and picks up
+ * its mined cells when the read finishes, so call {@link #prefetch} ahead of the viewport.
+ * Meant to be used from one thread (the EDT); the chunk map is locked so {@link #close} can run
+ * on the exit thread.
+ */
+public class ChunkedMine implements Closeable {
+    public interface ChunkListener {
+        void chunkLoaded(int chunkRow, int chunkCol);
+    }
+
+    private static final String HEADER_FILE = "world.json";
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
+    private final long seed;
+    private final byte[] tierTable;
+    private final File spillDir;
+    private final Executor callbackExecutor;
+    private final Map<Long, Chunk> chunks;
+    private final Map<Long, byte[]> pendingSpills = new ConcurrentHashMap<>();
+    // One thread for writes and reads, so a read always sees the spill queued before it.
+    private final ExecutorService ioExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "oreminer-chunk-io");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private ChunkListener chunkListener;
+
+    /**
+     * Opens the mine kept in {@code spillDir}, or starts a new one there with the current
+     * thresholds of {@code difficulty}. {@code callbackExecutor} applies chunks read from disk,
+     * e.g. SwingUtilities::invokeLater.
+     */
+    public static ChunkedMine open(long seed, Difficulty difficulty, File spillDir, int maxChunks,
+                                   Executor callbackExecutor) throws IOException {
+        File header = new File(spillDir, HEADER_FILE);
+        int[] thresholds;
+        if (header.exists()) {
+            thresholds = readHeader(header, seed);
+        } else {
+            thresholds = difficulty.thresholds.clone();
+            JsonObject object = new JsonObject();
+            object.addProperty("seed", seed);
+            object.addProperty("difficulty", difficulty.name());
+            object.add("thresholds", GSON.toJsonTree(thresholds));
+            object.addProperty("generatorVersion", OreGenerator.VERSION);
+            spillDir.mkdirs();
+            PersistenceService.writeAtomically(header.toPath(), GSON.toJson(object).getBytes(StandardCharsets.UTF_8));
+        }
+        return new ChunkedMine(seed, thresholds, spillDir, maxChunks, callbackExecutor);
+    }
+
+    private static int[] readHeader(File header, long seed) throws IOException {
+        try {
+            JsonObject object = JsonParser.parseString(Files.readString(header.toPath(), StandardCharsets.UTF_8))
+                .getAsJsonObject();
+            int generatorVersion = object.get("generatorVersion").getAsInt();
+            if (generatorVersion != OreGenerator.VERSION) {
+                throw new IOException(header + " was made by generator version " + generatorVersion
+                    + " but this is version " + OreGenerator.VERSION);
+            }
+            if (object.get("seed").getAsLong() != seed) {
+                throw new IOException(header + " belongs to a different seed");
+            }
+            int[] thresholds = GSON.fromJson(object.get("thresholds"), int[].class);
+            if (thresholds == null) {
+                throw new IOException(header + " has no thresholds");
+            }
+            return thresholds;
+        } catch (RuntimeException e) {
+            throw new IOException("Cannot read " + header + ": " + e.getMessage(), e);
+        }
+    }
+
+    private ChunkedMine(long seed, int[] thresholds, File spillDir, int maxChunks, Executor callbackExecutor) {
+        this.seed = seed;
+        this.tierTable = TierTable.build(thresholds);
+        this.spillDir = spillDir;
+        this.callbackExecutor = callbackExecutor;
+        this.chunks = new LinkedHashMap<>(maxChunks * 2, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Chunk> eldest) {
+                if (size() <= maxChunks) {
+                    return false;
+                }
+                if (eldest.getValue().dirty) {
+                    spill(eldest.getValue());
+                }
+                return true;
+            }
+        };
+    }
+
+    public void setChunkListener(ChunkListener chunkListener) {
+        this.chunkListener = chunkListener;
+    }
+
+    public synchronized Chunk chunkAt(int chunkRow, int chunkCol) {
+        long key = Chunk.key(chunkRow, chunkCol);
+        Chunk chunk = chunks.get(key);
+        if (chunk == null) {
+            chunk = load(chunkRow, chunkCol, key);
+            chunks.put(key, chunk);
+        }
+        return chunk;
+    }
+
+    /** Loads the chunks in the given inclusive range so their spill files are read before they are shown. */
+    public synchronized void prefetch(int firstChunkRow, int lastChunkRow, int firstChunkCol, int lastChunkCol) {
+        for (int chunkRow = firstChunkRow; chunkRow <= lastChunkRow; chunkRow++) {
+            for (int chunkCol = firstChunkCol; chunkCol <= lastChunkCol; chunkCol++) {
+                chunkAt(chunkRow, chunkCol);
+            }
+        }
+    }
+
+    public int tierAt(int row, int col) {
+        return chunkFor(row, col).tierAt(Math.floorMod(row, Chunk.CHUNK_SIZE), Math.floorMod(col, Chunk.CHUNK_SIZE));
+    }
+
+    public boolean isMined(int row, int col) {
+        return chunkFor(row, col).isMined(Math.floorMod(row, Chunk.CHUNK_SIZE), Math.floorMod(col, Chunk.CHUNK_SIZE));
+    }
+
+    /**
+     * Mines one cell and returns the points it gave, or -1 if it was already mined or its chunk
+     * is still being read from disk.
+     */
+    public synchronized int mine(int row, int col) {
+        Chunk chunk = chunkFor(row, col);
+        int index = Math.floorMod(row, Chunk.CHUNK_SIZE) * Chunk.CHUNK_SIZE + Math.floorMod(col, Chunk.CHUNK_SIZE);
+        if (chunk.loading || chunk.mined[index]) {
+            return -1;
+        }
+        chunk.mined[index] = true;
+        chunk.dirty = true;
+        return MineRules.pointsFor(chunk.tiers.cells()[index]);
+    }
+
+    public synchronized int residentChunks() {
+        return chunks.size();
+    }
+
+    /**
+     * Spills every dirty chunk and waits for the writes. Run it at exit off the EDT, e.g. through
+     * {@link PersistenceService#shutdown}.
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            for (Chunk chunk : chunks.values()) {
+                if (chunk.dirty) {
+                    spill(chunk);
+                }
+            }
+            ioExecutor.shutdown();
+        }
+        try {
+            if (!ioExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+                throw new IOException("Timed out writing mine chunks to " + spillDir);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while writing mine chunks", e);
+        }
+    }
+
+    private Chunk chunkFor(int row, int col) {
+        return chunkAt(Math.floorDiv(row, Chunk.CHUNK_SIZE), Math.floorDiv(col, Chunk.CHUNK_SIZE));
+    }
+
+    private Chunk load(int chunkRow, int chunkCol, long key) {
+        Chunk chunk = new Chunk(chunkRow, chunkCol);
+        OreGenerator.fillRegion(chunk.tiers, seed, tierTable,
+            (long) chunkRow * Chunk.CHUNK_SIZE, (long) chunkCol * Chunk.CHUNK_SIZE);
+        byte[] bits = pendingSpills.get(key);
+        if (bits != null) {
+            chunk.loadMinedBits(bits);
+        } else if (!ioExecutor.isShutdown()) {
+            chunk.loading = true;
+            File file = spillFile(chunkRow, chunkCol);
+            ioExecutor.execute(() -> {
+                byte[] read = read(file);
+                callbackExecutor.execute(() -> loaded(key, chunk, read));
+            });
+        }
+        return chunk;
+    }
+
+    private static byte[] read(File file) {
+        if (!file.exists()) {
+            return null;
+        }
+        try {
+            return Files.readAllBytes(file.toPath());
+        } catch (IOException e) {
+            System.err.println("Error reading mine chunk " + file + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private synchronized void loaded(long key, Chunk chunk, byte[] bits) {
+        chunk.loading = false;
+        if (bits == null || bits.length != chunk.mined.length / 8 || chunks.get(key) != chunk) {
+            return;
+        }
+        chunk.loadMinedBits(bits);
+        if (chunkListener != null) {
+            chunkListener.chunkLoaded(chunk.chunkRow, chunk.chunkCol);
+        }
+    }
+
+    private void spill(Chunk chunk) {
+        long key = Chunk.key(chunk.chunkRow, chunk.chunkCol);
+        byte[] bits = chunk.minedBits();
+        chunk.dirty = false;
+        pendingSpills.put(key, bits);
+        File file = spillFile(chunk.chunkRow, chunk.chunkCol);
+        ioExecutor.execute(() -> {
+            try {
+                spillDir.mkdirs();
+                PersistenceService.writeAtomically(file.toPath(), bits);
+            } catch (IOException e) {
+                System.err.println("Error writing mine chunk " + file + ": " + e.getMessage());
+            } finally {
+                pendingSpills.remove(key, bits);
+            }
+        });
+    }
+
+    private File spillFile(int chunkRow, int chunkCol) {
+        return new File(spillDir, "chunk_" + chunkRow + "_" + chunkCol + ".bin");
+    }
+}
@@ -0,0 +1,184 @@
+package ore.world;
+
+import ore.TileSet;
+import ore.metrics.PaintTimer;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.HierarchyEvent;
+import java.awt.event.KeyEvent;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.image.BufferedImage;
+
+/**
+ * Viewport onto a {@link ChunkedMine}. Only the cells inside the visible area are painted, so the
+ * cost of a frame does not depend on how far the mine has been explored. One ring of chunks
+ * around the viewport is prefetched so their mined cells are read before they scroll into view.
+ * Drag or use the arrow keys to scroll; click to mine.
+ */
+public class WorldView extends JComponent {
+    public interface CellListener {
+        void cellClicked(int row, int col);
+    }
+
+    private static final int DRAG_THRESHOLD = 4;
+
+    private final ChunkedMine mine;
+    private final int cellSize;
+    private TileSet tiles;
+    private CellListener cellListener;
+    private long originX;
+    private long originY;
+    private Point pressPoint;
+    private boolean dragging;
+    private final PaintTimer paintTimer = new PaintTimer();
+
+    public WorldView(ChunkedMine mine, int cellSize) {
+        this.mine = mine;
+        this.cellSize = cellSize;
+        setOpaque(true);
+        setFocusable(true);
+        setPreferredSize(new Dimension(cellSize * 20, cellSize * 15));
+        mine.setChunkListener(this::repaintChunk);
+        addHierarchyListener(e -> {
+            if ((e.getChangeFlags() & HierarchyEvent.SHOWING_CHANGED) != 0 && isShowing()) {
+                requestFocusInWindow();
+            }
+        });
+
+        MouseAdapter mouse = new MouseAdapter() {
+            @Override
+            public void mousePressed(MouseEvent e) {
+                requestFocusInWindow();
+                pressPoint = e.getPoint();
+                dragging = false;
+            }
+
+            @Override
+            public void mouseDragged(MouseEvent e) {
+                if (pressPoint == null) {
+                    return;
+                }
+                int dx = e.getX() - pressPoint.x;
+                int dy = e.getY() - pressPoint.y;
+                if (dragging || Math.abs(dx) + Math.abs(dy) >= DRAG_THRESHOLD) {
+                    dragging = true;
+                    scrollBy(-dx, -dy);
+                    pressPoint = e.getPoint();
+                }
+            }
+
+            @Override
+            public void mouseReleased(MouseEvent e) {
+                if (!dragging && cellListener != null && SwingUtilities.isLeftMouseButton(e)) {
+                    int row = rowAt(e.getY());
+                    int col = colAt(e.getX());
+                    paintTimer.click(() -> cellListener.cellClicked(row, col));
+                }
+                pressPoint = null;
+            }
+        };
+        addMouseListener(mouse);
+        addMouseMotionListener(mouse);
+
+        bindScrollKey(KeyEvent.VK_LEFT, -cellSize, 0);
+        bindScrollKey(KeyEvent.VK_RIGHT, cellSize, 0);
+        bindScrollKey(KeyEvent.VK_UP, 0, -cellSize);
+        bindScrollKey(KeyEvent.VK_DOWN, 0, cellSize);
+    }
+
+    private void bindScrollKey(int keyCode, int dx, int dy) {
+        String name = "scroll" + keyCode;
+        getInputMap(WHEN_FOCUSED).put(KeyStroke.getKeyStroke(keyCode, 0), name);
+        getActionMap().put(name, new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                scrollBy(dx, dy);
+            }
+        });
+    }
+
+    public void setCellListener(CellListener cellListener) {
+        this.cellListener = cellListener;
+    }
+
+    public void scrollBy(int dx, int dy) {
+        originX += dx;
+        originY += dy;
+        repaint();
+    }
+
+    public void repaintCell(int row, int col) {
+        repaint((int) (col * (long) cellSize - originX), (int) (row * (long) cellSize - originY), cellSize, cellSize);
+        paintTimer.repaintScheduled();
+    }
+
+    private void repaintChunk(int chunkRow, int chunkCol) {
+        long size = (long) Chunk.CHUNK_SIZE * cellSize;
+        repaint((int) (chunkCol * size - originX), (int) (chunkRow * size - originY), (int) size, (int) size);
+    }
+
+    private int rowAt(int y) {
+        return (int) Math.floorDiv(originY + y, cellSize);
+    }
+
+    private int colAt(int x) {
+        return (int) Math.floorDiv(originX + x, cellSize);
+    }
+
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        tiles = null;
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        long start = System.nanoTime();
+        paintCells(g);
+        paintTimer.painted(start);
+    }
+
+    private void paintCells(Graphics g) {
+        if (tiles == null) {
+            tiles = new TileSet(getGraphicsConfiguration(), cellSize, TileSet.DEFAULT_HIDDEN_COLOR,
+                TileSet.DEFAULT_TIER_COLORS);
+        }
+        Rectangle clip = g.getClipBounds();
+        if (clip == null) {
+            clip = new Rectangle(0, 0, getWidth(), getHeight());
+        }
+        int firstRow = rowAt(clip.y);
+        int lastRow = rowAt(clip.y + clip.height - 1);
+        int firstCol = colAt(clip.x);
+        int lastCol = colAt(clip.x + clip.width - 1);
+
+        // Walk chunk by chunk so each chunk is looked up once per frame, not once per cell.
+        int firstChunkRow = Math.floorDiv(firstRow, Chunk.CHUNK_SIZE);
+        int lastChunkRow = Math.floorDiv(lastRow, Chunk.CHUNK_SIZE);
+        int firstChunkCol = Math.floorDiv(firstCol, Chunk.CHUNK_SIZE);
+        int lastChunkCol = Math.floorDiv(lastCol, Chunk.CHUNK_SIZE);
+        mine.prefetch(firstChunkRow - 1, lastChunkRow + 1, firstChunkCol - 1, lastChunkCol + 1);
+        for (int chunkRow = firstChunkRow; chunkRow <= lastChunkRow; chunkRow++) {
+            for (int chunkCol = firstChunkCol; chunkCol <= lastChunkCol; chunkCol++) {
+                Chunk chunk = mine.chunkAt(chunkRow, chunkCol);
+                int baseRow = chunkRow * Chunk.CHUNK_SIZE;
+                int baseCol = chunkCol * Chunk.CHUNK_SIZE;
+                int fromRow = Math.max(firstRow, baseRow) - baseRow;
+                int toRow = Math.min(lastRow, baseRow + Chunk.CHUNK_SIZE - 1) - baseRow;
+                int fromCol = Math.max(firstCol, baseCol) - baseCol;
+                int toCol = Math.min(lastCol, baseCol + Chunk.CHUNK_SIZE - 1) - baseCol;
+                for (int row = fromRow; row <= toRow; row++) {
+                    int y = (int) ((long) (baseRow + row) * cellSize - originY);
+                    for (int col = fromCol; col <= toCol; col++) {
+                        int x = (int) ((long) (baseCol + col) * cellSize - originX);
+                        BufferedImage tile = chunk.isMined(row, col) ? tiles.tier(chunk.tierAt(row, col)) : tiles.hidden();
+                        g.drawImage(tile, x, y, null);
+                    }
+                }
+            }
+        }
+    }
+}
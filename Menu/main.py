@@ -1,6 +1,9 @@
+import hashlib
 import os
+import shutil
 import subprocess
 import sys
+import time
 from pathlib import Path
 import tkinter as tk
 from tkinter import messagebox
@@ -11,6 +14,12 @@ RELEASES = [
     ("Release Candidate", "Release Canidate"),
 ]
 
+LIBRARY_JARS = ["json-simple-1.1.1.jar", "gson-2.10.1.jar"]
+BUILD_DIR = "build"
+GAME_JAR = "oreminer.jar"
+CDS_ARCHIVE = "oreminer.jsa"
+HASH_FILE = "source.sha256"
+
 
 def get_project_root() -> Path:
     return Path(__file__).resolve().parent.parent
@@ -21,7 +30,70 @@ def get_release_dir(relative_name: str) -> Path:
 
 
 def build_classpath() -> str:
-    return os.pathsep.join([".", "json-simple-1.1.1.jar", "gson-2.10.1.jar"])
+    return os.pathsep.join(["."] + LIBRARY_JARS)
+
+
+def runtime_classpath() -> str:
+    # AppCDS only archives classes loaded from jar files, so the game runs from a packaged jar.
+    return os.pathsep.join([str(Path(BUILD_DIR) / GAME_JAR)] + LIBRARY_JARS)
+
+
+def java_identity() -> bytes:
+    # The resolved java binary plus its JDK's release file, so no JVM has to be started to tell JDKs apart.
+    java = shutil.which("java")
+    if java is None:
+        return b""
+    java_path = Path(java).resolve()
+    release_file = java_path.parent.parent / "release"
+    release = release_file.read_bytes() if release_file.exists() else b""
+    return str(java_path).encode() + b"\0" + release
+
+
+def build_hash(release_dir: Path) -> str:
+    # The CDS archive only works with the JVM that wrote it, so a JDK or library change forces a rebuild.
+    digest = hashlib.sha256()
+    digest.update(java_identity())
+    inputs = [release_dir / "oreminer.java"] + sorted((release_dir / "ore").rglob("*.java"))
+    inputs += [release_dir / jar for jar in LIBRARY_JARS]
+    for path in inputs:
+        if path.exists():
+            digest.update(path.relative_to(release_dir).as_posix().encode())
+            digest.update(path.read_bytes())
+    return digest.hexdigest()
+
+
+def compile_release(release_dir: Path) -> bool:
+    build_dir = release_dir / BUILD_DIR
+    classes_dir = build_dir / "classes"
+    shutil.rmtree(classes_dir, ignore_errors=True)
+    try:
+        compile_result = subprocess.run(
+            ["javac", "-d", str(classes_dir), "-cp", build_classpath(), "oreminer.java"],
+            cwd=release_dir,
+            capture_output=True,
+            text=True,
+            check=False,
+        )
+    except FileNotFoundError:
+        messagebox.showerror("JDK Not Found", "javac was not found in PATH. Install JDK and try again.")
+        return False
+
+    if compile_result.returncode != 0:
+        error_text = compile_result.stderr.strip() or "Compilation failed with no stderr output."
+        messagebox.showerror("Compilation Failed", error_text)
+        return False
+
+    jar_result = subprocess.run(
+        ["jar", "--create", "--file", str(build_dir / GAME_JAR), "--main-class", "oreminer", "-C", str(classes_dir), "."],
+        cwd=release_dir,
+        capture_output=True,
+        text=True,
+        check=False,
+    )
+    if jar_result.returncode != 0:
+        messagebox.showerror("Packaging Failed", jar_result.stderr.strip() or "jar failed with no stderr output.")
+        return False
+    return True
 
 
 def launch_release(relative_name: str) -> None:
@@ -40,26 +112,43 @@ def launch_release(relative_name: str) -> None:
         messagebox.showerror("Missing Libraries", "Required jar files are missing:\n" + "\n".join(missing_jars))
         return
 
-    classpath = build_classpath()
-    try:
-        compile_result = subprocess.run(
-            ["javac", "-cp", classpath, "oreminer.java"],
-            cwd=release_dir,
-            capture_output=True,
-            text=True,
-            check=False,
+    build_dir = release_dir / BUILD_DIR
+    hash_file = build_dir / HASH_FILE
+    cds_archive = build_dir / CDS_ARCHIVE
+    compile_start = time.perf_counter()
+    current_hash = build_hash(release_dir)
+    if (build_dir / GAME_JAR).exists() and hash_file.exists() and hash_file.read_text().strip() == current_hash:
+        print(
+            f"[startup] {relative_name}: compile skipped (sources, libraries and JDK unchanged) "
+            f"{time.perf_counter() - compile_start:.2f} s",
+            flush=True,
         )
-    except FileNotFoundError:
-        messagebox.showerror("JDK Not Found", "javac was not found in PATH. Install JDK and try again.")
-        return
-
-    if compile_result.returncode != 0:
-        error_text = compile_result.stderr.strip() or "Compilation failed with no stderr output."
-        messagebox.showerror("Compilation Failed", error_text)
-        return
-
+    else:
+        build_dir.mkdir(exist_ok=True)
+        hash_file.unlink(missing_ok=True)
+        cds_archive.unlink(missing_ok=True)
+        if not compile_release(release_dir):
+            return
+        hash_file.write_text(current_hash)
+        print(f"[startup] {relative_name}: compile + jar {time.perf_counter() - compile_start:.2f} s", flush=True)
+
+    if cds_archive.exists():
+        cds_options = [f"-XX:SharedArchiveFile={cds_archive.relative_to(release_dir)}"]
+    else:
+        # The archive is written when this first run exits and reused by later launches. The dump
+        # warns about every class it cannot archive, which is expected, so cds logging is turned off.
+        cds_options = [f"-XX:ArchiveClassesAtExit={cds_archive.relative_to(release_dir)}", "-Xlog:cds=off"]
+
+    command = [
+        "java",
+        *cds_options,
+        f"-Doreminer.launchedAt={int(time.time() * 1000)}",
+        "-cp",
+        runtime_classpath(),
+        "oreminer",
+    ]
     try:
-        subprocess.Popen(["java", "-cp", classpath, "oreminer"], cwd=release_dir)
+        subprocess.Popen(command, cwd=release_dir)
     except FileNotFoundError:
         messagebox.showerror("Java Not Found", "java was not found in PATH. Install JDK and try again.")
         return
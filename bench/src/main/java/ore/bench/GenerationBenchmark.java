@@ -0,0 +1,55 @@
+package ore.bench;
+
+import ore.OreBoard;
+import ore.OreGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GenerationBenchmark {
+    @Param({"FULL_RELEASE", "SNAPSHOT"})
+    private String release;
+
+    @Param({"EASY", "NORMAL", "HARD"})
+    private String difficulty;
+
+    @Param({"10", "15", "100", "1000"})
+    private int size;
+
+    private int[] thresholds;
+    private long seed;
+
+    @Setup
+    public void setup() {
+        thresholds = Thresholds.of(release, difficulty);
+    }
+
+    @Benchmark
+    public int[][] seeded() {
+        return OreGenerator.generate(seed++, thresholds, size, size);
+    }
+
+    @Benchmark
+    public OreBoard seededBoard() {
+        return OreGenerator.generateBoard(seed++, thresholds, size, size);
+    }
+
+    @Benchmark
+    public int[][] javaUtilRandom() {
+        Random random = new Random(seed++);
+        int[][] grid = new int[size][size];
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                grid[row][col] = OreGenerator.tierFor(random.nextInt(100), thresholds);
+            }
+        }
+        return grid;
+    }
+}
@@ -0,0 +1,93 @@
+package ore.bench;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import ore.Difficulty;
+import ore.PersistenceService;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The settings.json and highscore.json paths: Gson over FileReader/FileWriter as the game used to
+ * run them on the EDT, and the caller-side cost of queueing the same save on PersistenceService.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PersistenceBenchmark {
+    static class GameSettings {
+        private Difficulty difficulty = Difficulty.NORMAL;
+        private boolean soundEnabled = true;
+        private boolean animationsEnabled = true;
+        private String theme = "LIGHT";
+        private String renderer = "HARDWARE_ACCELERATED";
+        private String boardRenderer = "BUTTON_GRID";
+    }
+
+    private final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+    private final GameSettings settings = new GameSettings();
+    private File settingsFile;
+    private File highScoreFile;
+    private int highScore;
+    private PersistenceService persistence;
+
+    @Setup
+    public void setup() throws IOException {
+        File dir = Files.createTempDirectory("oreminer-bench").toFile();
+        settingsFile = new File(dir, "settings.json");
+        highScoreFile = new File(dir, "highscore.json");
+        saveSettings();
+        saveHighScore();
+        persistence = new PersistenceService(Runnable::run, (file, error) -> { });
+    }
+
+    @TearDown
+    public void tearDown() {
+        persistence.shutdown();
+    }
+
+    @Benchmark
+    public void saveSettings() throws IOException {
+        try (FileWriter writer = new FileWriter(settingsFile)) {
+            gson.toJson(settings, writer);
+        }
+    }
+
+    @Benchmark
+    public void saveSettingsQueued() {
+        persistence.save(settingsFile, gson.toJson(settings));
+    }
+
+    @Benchmark
+    public GameSettings loadSettings() throws IOException {
+        try (FileReader reader = new FileReader(settingsFile)) {
+            return gson.fromJson(reader, GameSettings.class);
+        }
+    }
+
+    @Benchmark
+    public void saveHighScore() throws IOException {
+        JsonObject object = new JsonObject();
+        object.addProperty("highScore", ++highScore);
+        try (FileWriter writer = new FileWriter(highScoreFile)) {
+            gson.toJson(object, writer);
+        }
+    }
+
+    @Benchmark
+    public int loadHighScore() throws IOException {
+        try (FileReader reader = new FileReader(highScoreFile)) {
+            return gson.fromJson(reader, JsonObject.class).get("highScore").getAsInt();
+        }
+    }
+}
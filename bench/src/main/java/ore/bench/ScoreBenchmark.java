@@ -0,0 +1,39 @@
+package ore.bench;
+
+import ore.MineRules;
+import ore.OreGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScoreBenchmark {
+    @Param({"FULL_RELEASE", "SNAPSHOT"})
+    private String release;
+
+    @Param({"10", "15", "100", "1000"})
+    private int size;
+
+    private int[][] grid;
+
+    @Setup
+    public void setup() {
+        grid = OreGenerator.generate(1L, Thresholds.of(release, "NORMAL"), size, size);
+    }
+
+    @Benchmark
+    public long mineWholeBoard() {
+        long totalScore = 0;
+        for (int[] row : grid) {
+            for (int tier : row) {
+                totalScore += MineRules.pointsFor(tier);
+            }
+        }
+        return totalScore;
+    }
+}
@@ -0,0 +1,91 @@
+package ore.bench;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import ore.BinarySeedStore;
+import ore.Difficulty;
+import ore.OreGenerator;
+import ore.SeedRecord;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SeedSerializationBenchmark {
+    private static final int APPEND_BATCH = 200;
+
+    // Field layout of oreminer.SeedData, which Gson writes to seeds.json.
+    static class SeedData {
+        private String seedId;
+        private int[][] oreData;
+        private long timestamp;
+    }
+
+    @Param({"10", "15", "100", "1000"})
+    private int size;
+
+    private final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+    private SeedData seed;
+    private String json;
+    private File dir;
+    private BinarySeedStore store;
+    private SeedRecord record;
+
+    @Setup
+    public void setup() throws IOException {
+        seed = new SeedData();
+        seed.seedId = UUID.randomUUID().toString();
+        seed.oreData = OreGenerator.generate(3L, Difficulty.NORMAL, size);
+        seed.timestamp = System.currentTimeMillis();
+        json = gson.toJson(seed);
+        record = new SeedRecord(seed.seedId, seed.oreData, seed.timestamp);
+    }
+
+    @Setup(Level.Iteration)
+    public void openStore() throws IOException {
+        dir = Files.createTempDirectory("oreminer-bench").toFile();
+        store = new BinarySeedStore(new File(dir, "seeds.dat"), new File(dir, "seeds.idx"));
+        store.append(record);
+    }
+
+    @TearDown(Level.Iteration)
+    public void closeStore() throws IOException {
+        store.close();
+        new File(dir, "seeds.dat").delete();
+        new File(dir, "seeds.idx").delete();
+        dir.delete();
+    }
+
+    @Benchmark
+    public String gsonWrite() {
+        return gson.toJson(seed);
+    }
+
+    @Benchmark
+    public SeedData gsonRead() {
+        return gson.fromJson(json, SeedData.class);
+    }
+
+    // Appends grow the file, so each iteration is a fixed batch against a fresh store.
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 5, batchSize = APPEND_BATCH)
+    @Measurement(iterations = 10, batchSize = APPEND_BATCH)
+    public void binaryAppend() throws IOException {
+        store.append(record);
+    }
+
+    @Benchmark
+    public SeedRecord binaryFind() {
+        return store.find(seed.seedId);
+    }
+}
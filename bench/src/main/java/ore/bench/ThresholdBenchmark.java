@@ -0,0 +1,59 @@
+package ore.bench;
+
+import ore.OreGenerator;
+import ore.TierTable;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ThresholdBenchmark {
+    private static final int ROLLS = 4096;
+
+    @Param({"FULL_RELEASE", "SNAPSHOT"})
+    private String release;
+
+    @Param({"EASY", "NORMAL", "HARD"})
+    private String difficulty;
+
+    private int[] thresholds;
+    private byte[] tierTable;
+    private int[] rolls;
+
+    @Setup
+    public void setup() {
+        thresholds = Thresholds.of(release, difficulty);
+        tierTable = TierTable.build(thresholds);
+        Random random = new Random(7);
+        rolls = new int[ROLLS];
+        for (int i = 0; i < ROLLS; i++) {
+            rolls[i] = random.nextInt(100);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROLLS)
+    public int tierFor() {
+        int sum = 0;
+        for (int roll : rolls) {
+            sum += OreGenerator.tierFor(roll, thresholds);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROLLS)
+    public int tierTable() {
+        int sum = 0;
+        for (int roll : rolls) {
+            sum += tierTable[roll];
+        }
+        return sum;
+    }
+}
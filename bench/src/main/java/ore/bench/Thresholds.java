@@ -0,0 +1,22 @@
+package ore.bench;
+
+import ore.Difficulty;
+
+/** Threshold tables of the builds we compare; FULL_RELEASE mirrors Full Release/oreminer.java. */
+final class Thresholds {
+    private static final int[][] FULL_RELEASE = {
+        {60, 80, 90, 96, 99},
+        {50, 70, 85, 93, 98},
+        {40, 60, 75, 85, 95}
+    };
+
+    private Thresholds() {}
+
+    static int[] of(String release, String difficulty) {
+        Difficulty level = Difficulty.valueOf(difficulty);
+        if (release.equals("FULL_RELEASE")) {
+            return FULL_RELEASE[level.ordinal()];
+        }
+        return level.thresholds;
+    }
+}
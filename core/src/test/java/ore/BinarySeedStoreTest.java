@@ -0,0 +1,97 @@
+package ore;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BinarySeedStoreTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    void storedGridRoundTrips() throws IOException {
+        int[][] grid = new int[20][30];
+        for (int row = 0; row < grid.length; row++) {
+            for (int col = 0; col < grid[row].length; col++) {
+                grid[row][col] = (row * 31 + col) % 8;
+            }
+        }
+        try (BinarySeedStore store = open()) {
+            store.append(new SeedRecord("grid", grid, 1234L));
+        }
+        try (BinarySeedStore store = open()) {
+            SeedRecord record = store.find("grid");
+            assertFalse(record.isGenerated());
+            assertEquals(20, record.getRows());
+            assertEquals(30, record.getCols());
+            assertEquals(1234L, record.getTimestamp());
+            assertArrayEquals(grid, record.grid());
+        }
+    }
+
+    @Test
+    void generatedSeedRoundTrips() throws IOException {
+        int[] thresholds = {40, 60, 75, 85, 92, 96, 99};
+        try (BinarySeedStore store = open()) {
+            store.append(new SeedRecord("seed", 42L, Difficulty.HARD, thresholds, 12, 17, OreGenerator.VERSION, 99L));
+        }
+        try (BinarySeedStore store = open()) {
+            SeedRecord record = store.find("seed");
+            assertTrue(record.isGenerated());
+            assertEquals(42L, record.getSeed());
+            assertEquals(Difficulty.HARD, record.getDifficulty());
+            assertArrayEquals(thresholds, record.getThresholds());
+            assertEquals(OreGenerator.VERSION, record.getGeneratorVersion());
+            assertEquals(99L, record.getTimestamp());
+            assertArrayEquals(OreGenerator.generate(42L, thresholds, 12, 17), record.grid());
+        }
+    }
+
+    @Test
+    void truncatedIndexIsRebuiltFromData() throws IOException {
+        try (BinarySeedStore store = open()) {
+            for (int i = 0; i < 3; i++) {
+                store.append(new SeedRecord("seed-" + i, i, Difficulty.NORMAL, 15, 15, i));
+            }
+        }
+        File index = dir.resolve("seeds.idx").toFile();
+        long fullLength = index.length();
+        try (RandomAccessFile file = new RandomAccessFile(index, "rw")) {
+            file.setLength(fullLength - 3);
+        }
+
+        try (BinarySeedStore store = open()) {
+            assertEquals(List.of("seed-0", "seed-1", "seed-2"), store.seedIds());
+            assertEquals(2L, store.find("seed-2").getSeed());
+        }
+        assertEquals(fullLength, index.length());
+    }
+
+    @Test
+    void missingIndexIsRebuiltFromData() throws IOException {
+        try (BinarySeedStore store = open()) {
+            store.append(new SeedRecord("a", 1L, Difficulty.EASY, 10, 10, 0L));
+            store.append(new SeedRecord("b", 2L, Difficulty.EASY, 10, 10, 0L));
+        }
+        assertTrue(dir.resolve("seeds.idx").toFile().delete());
+
+        try (BinarySeedStore store = open()) {
+            assertEquals(List.of("a", "b"), store.seedIds());
+            assertEquals(2L, store.find("b").getSeed());
+        }
+    }
+
+    private BinarySeedStore open() throws IOException {
+        return new BinarySeedStore(dir.resolve("seeds.dat").toFile(), dir.resolve("seeds.idx").toFile());
+    }
+}
@@ -0,0 +1,115 @@
+package ore;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.zip.CRC32;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Pins generator output so saved seeds keep producing the same boards. If one of these hashes
+ * changes on purpose, bump {@link OreGenerator#VERSION}.
+ */
+class OreGeneratorTest {
+    private static final long SEED = 20240917L;
+    private static final long REGION_ROW = -1_000_000L;
+    private static final long REGION_COL = 123_456_789L;
+
+    // difficulty, size, generate/generateBoard CRC32, fillRegion CRC32 at (REGION_ROW, REGION_COL)
+    private static final Object[][] PINNED = {
+        {Difficulty.EASY, 10, 0xC4462F94L, 0x7B963EC5L},
+        {Difficulty.EASY, 15, 0x1B747083L, 0xED7EFC23L},
+        {Difficulty.EASY, 1000, 0xC2E87264L, 0xC9BB1F9CL},
+        {Difficulty.NORMAL, 10, 0x3A3B8250L, 0xB3E7ECEAL},
+        {Difficulty.NORMAL, 15, 0x71F0D5D4L, 0xC969AA69L},
+        {Difficulty.NORMAL, 1000, 0x7B1A636CL, 0x9EC1A875L},
+        {Difficulty.HARD, 10, 0x2EDB8C5CL, 0xEF2013F0L},
+        {Difficulty.HARD, 15, 0xFB74F988L, 0x9E4F3D72L},
+        {Difficulty.HARD, 1000, 0xC7906E9AL, 0xB1EB0F5AL},
+    };
+
+    @Test
+    void seed42NormalBoard() {
+        int[][] expected = {
+            {1, 1, 0, 0, 0, 6, 0, 0, 0, 3},
+            {1, 1, 6, 6, 1, 0, 0, 4, 1, 2},
+            {3, 3, 2, 4, 7, 0, 5, 0, 0, 0},
+            {1, 5, 0, 0, 0, 0, 2, 3, 0, 3},
+            {0, 2, 0, 0, 2, 0, 4, 0, 0, 6},
+            {4, 2, 0, 0, 3, 0, 0, 1, 0, 1},
+            {2, 2, 1, 0, 0, 1, 0, 0, 0, 4},
+            {7, 0, 0, 0, 0, 0, 0, 0, 4, 4},
+            {0, 3, 0, 1, 5, 0, 4, 5, 1, 2},
+            {0, 0, 3, 3, 3, 0, 0, 1, 0, 0},
+        };
+        assertArrayEquals(expected, OreGenerator.generate(42L, Difficulty.NORMAL, 10));
+    }
+
+    @Test
+    void generateIsPinned() {
+        for (Object[] row : PINNED) {
+            Difficulty difficulty = (Difficulty) row[0];
+            int size = (Integer) row[1];
+            assertEquals(row[2], crc(OreGenerator.generate(SEED, difficulty, size)), difficulty + " " + size);
+        }
+    }
+
+    @Test
+    void generateBoardIsPinned() {
+        for (Object[] row : PINNED) {
+            Difficulty difficulty = (Difficulty) row[0];
+            int size = (Integer) row[1];
+            assertEquals(row[2], crc(OreGenerator.generateBoard(SEED, difficulty, size, size)), difficulty + " " + size);
+        }
+    }
+
+    @Test
+    void fillRegionIsPinned() {
+        for (Object[] row : PINNED) {
+            Difficulty difficulty = (Difficulty) row[0];
+            int size = (Integer) row[1];
+            OreBoard region = new OreBoard(size, size);
+            OreGenerator.fillRegion(region, SEED, difficulty, REGION_ROW, REGION_COL);
+            assertEquals(row[3], crc(region), difficulty + " " + size);
+        }
+    }
+
+    @Test
+    void fillRegionAtOriginMatchesGenerateBoard() {
+        OreBoard region = new OreBoard(64, 48);
+        OreGenerator.fillRegion(region, SEED, Difficulty.NORMAL, 0, 0);
+        assertArrayEquals(OreGenerator.generateBoard(SEED, Difficulty.NORMAL, 64, 48).cells(), region.cells());
+    }
+
+    @Test
+    void parallelFillMatchesSequential() {
+        for (Difficulty difficulty : Difficulty.values()) {
+            int size = 1000;
+            int[][] sequential = new int[size][size];
+            OreGenerator.fillRows(sequential, SEED, difficulty.thresholds, 0, size);
+            assertArrayEquals(sequential, OreGenerator.generate(SEED, difficulty, size), difficulty.name());
+
+            OreBoard sequentialBoard = new OreBoard(size, size);
+            OreGenerator.fillBoard(sequentialBoard, SEED, difficulty, 0, size);
+            assertArrayEquals(sequentialBoard.cells(),
+                OreGenerator.generateBoard(SEED, difficulty, size, size).cells(), difficulty.name());
+        }
+    }
+
+    private static long crc(int[][] grid) {
+        CRC32 crc = new CRC32();
+        for (int[] row : grid) {
+            for (int tier : row) {
+                crc.update(tier);
+            }
+        }
+        return crc.getValue();
+    }
+
+    private static long crc(OreBoard board) {
+        CRC32 crc = new CRC32();
+        crc.update(board.cells());
+        return crc.getValue();
+    }
+}
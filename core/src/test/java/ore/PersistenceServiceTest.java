@@ -0,0 +1,53 @@
+package ore;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PersistenceServiceTest {
+    @TempDir
+    Path dir;
+
+    private final List<File> failed = new CopyOnWriteArrayList<>();
+    private final PersistenceService persistence = new PersistenceService(Runnable::run,
+        (file, error) -> failed.add(file));
+
+    @Test
+    void shutdownWritesQueuedSaves() throws IOException {
+        File file = dir.resolve("settings.json").toFile();
+        persistence.save(file, "{}");
+        persistence.shutdown();
+        assertEquals("{}", Files.readString(file.toPath()));
+    }
+
+    @Test
+    void saveAfterShutdownIsWrittenByTheNextFlush() throws IOException {
+        persistence.shutdown();
+        File file = dir.resolve("settings.json").toFile();
+        persistence.save(file, "{}");
+        persistence.flush();
+        assertEquals("{}", Files.readString(file.toPath()));
+    }
+
+    @Test
+    void failedSaveIsReportedUntilShutdown() throws IOException {
+        File file = Files.createDirectory(dir.resolve("blocked.json")).toFile();
+        persistence.save(file, "{}");
+        persistence.flush();
+        assertEquals(List.of(file.getAbsoluteFile()), failed);
+
+        failed.clear();
+        persistence.save(file, "[]");
+        persistence.shutdown();
+        assertTrue(failed.isEmpty());
+    }
+}
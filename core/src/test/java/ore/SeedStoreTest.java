@@ -0,0 +1,92 @@
+package ore;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class SeedStoreTest {
+    private static final String SEED_A = "{\"seedId\": \"a\", \"oreData\": [[1, 2], [3, 4]], \"timestamp\": 1}";
+    private static final String SEED_B = "{\"seedId\": \"b\", \"oreData\": [[5, 6], [7, 0]], \"timestamp\": 2}";
+
+    @TempDir
+    Path dir;
+
+    private final PersistenceService persistence = new PersistenceService(Runnable::run,
+        (file, error) -> fail("Save failed: " + file, error));
+
+    @AfterEach
+    void shutdown() {
+        persistence.shutdown();
+    }
+
+    @Test
+    void jsonSeedsAreImported() throws IOException {
+        File json = writeJson(SEED_A, SEED_B);
+        try (SeedStore store = SeedStore.open(json, persistence)) {
+            assertInstanceOf(BinarySeedStore.class, store);
+            assertEquals(List.of("a", "b"), store.seedIds());
+            assertArrayEquals(new int[][] {{5, 6}, {7, 0}}, store.find("b").grid());
+        }
+    }
+
+    @Test
+    void seedsSavedToJsonLaterAreImportedOnNextOpen() throws IOException {
+        File json = writeJson(SEED_A);
+        try (SeedStore store = SeedStore.open(json, persistence)) {
+            assertEquals(List.of("a"), store.seedIds());
+        }
+
+        writeJson(SEED_A, SEED_B);
+        try (SeedStore store = SeedStore.open(json, persistence)) {
+            assertInstanceOf(BinarySeedStore.class, store);
+            assertEquals(List.of("a", "b"), store.seedIds());
+        }
+    }
+
+    @Test
+    void incompleteJsonFallsBackToJsonStore() throws IOException {
+        String unreadable = "{\"seedId\": \"c\", \"difficulty\": \"IMPOSSIBLE\"}";
+        File json = writeJson(SEED_A, unreadable);
+        String original = Files.readString(json.toPath());
+        try (SeedStore store = SeedStore.open(json, persistence)) {
+            assertInstanceOf(JsonSeedStore.class, store);
+            assertEquals(List.of("a"), store.seedIds());
+        }
+        assertFalse(dir.resolve("seeds.dat").toFile().exists());
+        assertFalse(dir.resolve("seeds.idx").toFile().exists());
+        assertEquals(original, Files.readString(json.toPath()));
+    }
+
+    @Test
+    void seedWithoutGeneratorFieldsIsKeptUnread() throws IOException {
+        String noVersion = "{\"seedId\": \"c\", \"seed\": 7, \"difficulty\": \"EASY\", \"timestamp\": 3}";
+        File json = writeJson(SEED_A, noVersion);
+        JsonSeedStore store = new JsonSeedStore(json, persistence);
+        assertFalse(store.isComplete());
+        assertEquals(List.of("a"), store.seedIds());
+
+        store.append(new SeedRecord("d", 8L, Difficulty.EASY, 10, 10, 4L));
+        persistence.flush();
+        assertTrue(Files.readString(json.toPath()).contains("\"seedId\": \"c\""));
+    }
+
+    private File writeJson(String... seeds) throws IOException {
+        Path json = dir.resolve("seeds.json");
+        Files.writeString(json, "[" + String.join(", ", seeds) + "]", StandardCharsets.UTF_8);
+        return json.toFile();
+    }
+}
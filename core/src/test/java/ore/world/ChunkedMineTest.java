@@ -0,0 +1,86 @@
+package ore.world;
+
+import ore.Difficulty;
+import ore.OreBoard;
+import ore.OreGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChunkedMineTest {
+    private static final long SEED = 20240917L;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void newMineMatchesGeneratorAndWritesHeader() throws IOException {
+        File spillDir = dir.resolve("mine").toFile();
+        OreBoard expected = new OreBoard(Chunk.CHUNK_SIZE, Chunk.CHUNK_SIZE);
+        OreGenerator.fillRegion(expected, SEED, Difficulty.NORMAL, -Chunk.CHUNK_SIZE, 0);
+        try (ChunkedMine mine = ChunkedMine.open(SEED, Difficulty.NORMAL, spillDir, 4, Runnable::run)) {
+            for (int row = 0; row < Chunk.CHUNK_SIZE; row++) {
+                for (int col = 0; col < Chunk.CHUNK_SIZE; col++) {
+                    assertEquals(expected.get(row, col), mine.tierAt(row - Chunk.CHUNK_SIZE, col));
+                }
+            }
+        }
+        assertTrue(new File(spillDir, "world.json").exists());
+    }
+
+    @Test
+    void savedThresholdsAreUsedInsteadOfTheDifficulty() throws IOException {
+        File spillDir = dir.resolve("mine").toFile();
+        writeHeader(spillDir, SEED, OreGenerator.VERSION);
+        try (ChunkedMine mine = ChunkedMine.open(SEED, Difficulty.NORMAL, spillDir, 4, Runnable::run)) {
+            for (int col = 0; col < 100; col++) {
+                assertEquals(1, mine.tierAt(7, col));
+            }
+        }
+    }
+
+    @Test
+    void mineFromAnotherGeneratorVersionIsRefused() throws IOException {
+        File spillDir = dir.resolve("mine").toFile();
+        writeHeader(spillDir, SEED, OreGenerator.VERSION + 1);
+        assertThrows(IOException.class, () -> ChunkedMine.open(SEED, Difficulty.NORMAL, spillDir, 4, Runnable::run));
+    }
+
+    @Test
+    void minedCellsSurviveReopening() throws IOException {
+        File spillDir = dir.resolve("mine").toFile();
+        try (ChunkedMine mine = ChunkedMine.open(SEED, Difficulty.HARD, spillDir, 4, Runnable::run)) {
+            waitForLoad(mine, 0, -2);
+            assertTrue(mine.mine(3, -40) >= 0);
+        }
+        try (ChunkedMine mine = ChunkedMine.open(SEED, Difficulty.HARD, spillDir, 4, Runnable::run)) {
+            waitForLoad(mine, 0, -2);
+            assertTrue(mine.isMined(3, -40));
+            assertEquals(-1, mine.mine(3, -40));
+        }
+    }
+
+    private static void waitForLoad(ChunkedMine mine, int chunkRow, int chunkCol) {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (mine.chunkAt(chunkRow, chunkCol).isLoading() && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private static void writeHeader(File spillDir, long seed, int generatorVersion) throws IOException {
+        // A single threshold of 0 puts every cell in tier 1.
+        String header = "{\"seed\": " + seed + ", \"difficulty\": \"NORMAL\", \"thresholds\": [0], "
+            + "\"generatorVersion\": " + generatorVersion + "}";
+        Files.createDirectories(spillDir.toPath());
+        Files.writeString(new File(spillDir, "world.json").toPath(), header, StandardCharsets.UTF_8);
+    }
+}